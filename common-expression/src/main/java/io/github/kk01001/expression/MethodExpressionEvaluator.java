@@ -0,0 +1,80 @@
+package io.github.kk01001.expression;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.CodeSignature;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.AnnotatedElementKey;
+import org.springframework.context.expression.CachedExpressionEvaluator;
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 11:05:00
+ * @description SpEL表达式缓存, 限流、锁、幂等切面共用
+ * <p>
+ * 表达式按 方法 + 表达式 缓存, 只解析一次, 并开启 SpEL 编译;
+ * 使用 MIXED 模式: 参数为多态类型时编译后的表达式可能因运行时类型变化失败, 此时回退为解释执行而不是抛出异常;
+ * 方法参数名按方法缓存, 避免每次调用重复获取
+ */
+public class MethodExpressionEvaluator extends CachedExpressionEvaluator {
+
+    private final Map<ExpressionKey, Expression> expressionCache = new ConcurrentHashMap<>(64);
+
+    private final Map<Method, String[]> parameterNamesCache = new ConcurrentHashMap<>(64);
+
+    public MethodExpressionEvaluator() {
+        super(new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED,
+                MethodExpressionEvaluator.class.getClassLoader())));
+    }
+
+    /**
+     * 创建SpEL上下文
+     */
+    public EvaluationContext createEvaluationContext(ProceedingJoinPoint joinPoint, BeanResolver beanResolver) {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        // 将方法的参数名和值添加到SpEL上下文中
+        Object[] args = joinPoint.getArgs();
+        String[] paramNames = getParameterNames(joinPoint);
+        for (int i = 0; i < paramNames.length; i++) {
+            context.setVariable(paramNames[i], args[i]);
+        }
+        context.setBeanResolver(beanResolver);
+        return context;
+    }
+
+    /**
+     * 解析SpEL表达式
+     */
+    public <T> T getValue(String spEl, AnnotatedElementKey methodKey, EvaluationContext context, Class<T> returnClassType) {
+        if (!StringUtils.hasLength(spEl)) {
+            return null;
+        }
+        return getExpression(expressionCache, methodKey, spEl).getValue(context, returnClassType);
+    }
+
+    public AnnotatedElementKey getMethodKey(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return new AnnotatedElementKey(method, null);
+    }
+
+    private String[] getParameterNames(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return parameterNamesCache.computeIfAbsent(method, m -> {
+            String[] paramNames = ((CodeSignature) joinPoint.getSignature()).getParameterNames();
+            Assert.notNull(paramNames, "paramNames is null, compiler code, please add -parameters");
+            return paramNames;
+        });
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.kk01001.expression;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.expression.AnnotatedElementKey;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author kk01001
+ * @date 2026-10-19 11:00:00
+ * @description SpEL表达式缓存
+ */
+class MethodExpressionEvaluatorTest {
+
+    private final CountingEvaluator evaluator = new CountingEvaluator();
+
+    @Test
+    void expressionIsParsedOncePerMethod() throws Exception {
+        ProceedingJoinPoint joinPoint = joinPoint(method("order", String.class, int.class), new Object[]{"A001", 3},
+                new String[]{"orderId", "count"});
+        AnnotatedElementKey methodKey = evaluator.getMethodKey(joinPoint);
+
+        for (int i = 0; i < 10; i++) {
+            EvaluationContext context = evaluator.createEvaluationContext(joinPoint, null);
+            assertThat(evaluator.getValue("'order:' + #orderId", methodKey, context, String.class))
+                    .isEqualTo("order:A001");
+        }
+        assertThat(evaluator.parsed.get()).isEqualTo(1);
+    }
+
+    @Test
+    void sameExpressionOnDifferentMethodsIsParsedSeparately() throws Exception {
+        ProceedingJoinPoint order = joinPoint(method("order", String.class, int.class), new Object[]{"A001", 3},
+                new String[]{"orderId", "count"});
+        ProceedingJoinPoint user = joinPoint(method("user", String.class), new Object[]{"U001"},
+                new String[]{"orderId"});
+
+        evaluator.getValue("#orderId", evaluator.getMethodKey(order),
+                evaluator.createEvaluationContext(order, null), String.class);
+        evaluator.getValue("#orderId", evaluator.getMethodKey(user),
+                evaluator.createEvaluationContext(user, null), String.class);
+
+        assertThat(evaluator.parsed.get()).isEqualTo(2);
+    }
+
+    @Test
+    void parameterNamesAreResolvedOncePerMethod() throws Exception {
+        ProceedingJoinPoint joinPoint = joinPoint(method("order", String.class, int.class), new Object[]{"A001", 3},
+                new String[]{"orderId", "count"});
+
+        for (int i = 0; i < 10; i++) {
+            EvaluationContext context = evaluator.createEvaluationContext(joinPoint, null);
+            assertThat(context.lookupVariable("count")).isEqualTo(3);
+        }
+        verify((MethodSignature) joinPoint.getSignature(), times(1)).getParameterNames();
+    }
+
+    @Test
+    void emptyExpressionReturnsNull() throws Exception {
+        ProceedingJoinPoint joinPoint = joinPoint(method("user", String.class), new Object[]{"U001"},
+                new String[]{"userId"});
+
+        assertThat(evaluator.getValue("", evaluator.getMethodKey(joinPoint),
+                evaluator.createEvaluationContext(joinPoint, null), String.class)).isNull();
+        assertThat(evaluator.parsed.get()).isZero();
+    }
+
+    @Test
+    void compiledExpressionFallsBackForPolymorphicArguments() throws Exception {
+        ProceedingJoinPoint first = joinPoint(method("named", Named.class), new Object[]{new First()},
+                new String[]{"named"});
+        AnnotatedElementKey methodKey = evaluator.getMethodKey(first);
+
+        // 超过编译阈值后表达式按 First 编译
+        for (int i = 0; i < 200; i++) {
+            assertThat(evaluator.getValue("#named.name", methodKey,
+                    evaluator.createEvaluationContext(first, null), String.class)).isEqualTo("first");
+        }
+
+        ProceedingJoinPoint second = joinPoint(method("named", Named.class), new Object[]{new Second()},
+                new String[]{"named"});
+        assertThat(evaluator.getValue("#named.name", methodKey,
+                evaluator.createEvaluationContext(second, null), String.class)).isEqualTo("second");
+    }
+
+    private static Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return Target.class.getDeclaredMethod(name, parameterTypes);
+    }
+
+    private static ProceedingJoinPoint joinPoint(Method method, Object[] args, String[] parameterNames) {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        when(signature.getParameterNames()).thenReturn(parameterNames);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(args);
+        return joinPoint;
+    }
+
+    private static class CountingEvaluator extends MethodExpressionEvaluator {
+
+        private final AtomicInteger parsed = new AtomicInteger();
+
+        @Override
+        protected Expression parseExpression(String expression) {
+            parsed.incrementAndGet();
+            return super.parseExpression(expression);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class Target {
+
+        void order(String orderId, int count) {
+        }
+
+        void user(String userId) {
+        }
+
+        void named(Named named) {
+        }
+    }
+
+    public interface Named {
+    }
+
+    public static class First implements Named {
+
+        public String getName() {
+            return "first";
+        }
+    }
+
+    public static class Second implements Named {
+
+        public String getName() {
+            return "second";
+        }
+    }
+}
@@ -1,72 +1,188 @@
 package io.github.kk01001.dict;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.kk01001.dict.properties.DictProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 public class DictCache {
     
     private static DictLoader dictLoader;
-    private static JdbcTemplate jdbcTemplate;
-    
-    private static final Map<String, Map<String, String>> CACHE = new ConcurrentHashMap<>();
+    private static DictTableCache tableCache;
+
+    /**
+     * 不存在的字典类型
+     */
+    private static Cache<String, Boolean> missCache;
+
+    /**
+     * 加载中的字典类型, 同一类型并发加载只调用一次 DictLoader
+     */
+    private static final Map<String, CompletableFuture<Map<String, String>>> LOADING = new ConcurrentHashMap<>();
+
+    /**
+     * 当前字典快照, 刷新时整体替换, 读取时不会看到刷新中的部分数据
+     */
+    private static volatile DictSnapshot snapshot = DictSnapshot.EMPTY;
 
     public static void init(DictLoader loader, JdbcTemplate template) {
+        init(loader, template, new DictProperties());
+    }
+
+    public static void init(DictLoader loader, JdbcTemplate template, DictProperties properties) {
         dictLoader = loader;
-        jdbcTemplate = template;
+        tableCache = new DictTableCache(template, properties.getTable());
+        missCache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getMissTtl())
+                .maximumSize(10000)
+                .build();
         // 初始化时加载所有字典
         refreshAll();
     }
 
     public static String getDictText(String type, String value, String table, String field) {
+        return getDictText(type, value, table, field, "");
+    }
+
+    /**
+     * 获取字典文本
+     *
+     * @param keyColumn 表中字典值所在的列, 为空时使用字典类型作为列名
+     */
+    public static String getDictText(String type, String value, String table, String field, String keyColumn) {
         if (value == null) {
             return null;
         }
         
         // 先从缓存获取
-        Map<String, String> dictMap = CACHE.get(type);
+        Map<String, String> dictMap = snapshot.get(type);
         if (dictMap != null) {
             // 如果缓存中存在，直接返回
-            return dictMap.getOrDefault(value, null);
+            return dictMap.get(value);
         }
 
-        // 如果缓存中没有，则从加载器加载
-        dictMap = dictLoader.loadDict(type);
-        if (dictMap != null) {
-            CACHE.put(type, dictMap);
-            // 从加载器获取到的字典返回
-            return dictMap.getOrDefault(value, null);
+        // 如果缓存中没有，则从加载器加载, 不存在的类型在 missTtl 内不再加载
+        if (missCache.getIfPresent(type) == null) {
+            dictMap = loadDict(type);
+            if (dictMap != null) {
+                // 从加载器获取到的字典返回
+                return dictMap.get(value);
+            }
         }
 
         // 如果都没有，判断是否指定了 table 和 field
         if (!table.isEmpty() && !field.isEmpty()) {
             // 从数据库中查询对应的文本
-            return queryFromDatabase(table, field, value);
+            return tableCache.getText(table, keyColumn.isEmpty() ? type : keyColumn, field, value);
         }
 
         // 如果都没有找到，返回 null
         return null;
     }
 
-    private static String queryFromDatabase(String table, String field, String value) {
-        String sql = String.format("SELECT %s FROM %s WHERE %s = ?", field, table, field);
-        return jdbcTemplate.queryForObject(sql, String.class);
+    private static Map<String, String> loadDict(String type) {
+        CompletableFuture<Map<String, String>> future = new CompletableFuture<>();
+        CompletableFuture<Map<String, String>> loading = LOADING.putIfAbsent(type, future);
+        if (loading != null) {
+            try {
+                return loading.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+        try {
+            Map<String, String> dictMap = dictLoader.loadDict(type);
+            if (dictMap != null) {
+                refresh(type, dictMap);
+            } else {
+                missCache.put(type, Boolean.TRUE);
+            }
+            future.complete(dictMap);
+            return dictMap;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            LOADING.remove(type, future);
+        }
+    }
+
+    /**
+     * 当前字典快照
+     */
+    public static DictSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 当前字典版本号
+     */
+    public static long getVersion() {
+        return snapshot.getVersion();
     }
     
-    public static void refresh(String type, Map<String, String> dict) {
-        CACHE.put(type, dict);
+    public static synchronized void refresh(String type, Map<String, String> dict) {
+        snapshot = snapshot.merge(Map.of(type, dict));
+        if (missCache != null) {
+            missCache.invalidate(type);
+        }
     }
     
+    /**
+     * 重新加载指定类型的字典, 加载结果为null时删除该类型
+     */
+    public static void reload(Collection<String> types) {
+        if (dictLoader == null || types == null) {
+            return;
+        }
+        Map<String, Map<String, String>> changed = new HashMap<>(types.size());
+        for (String type : types) {
+            changed.put(type, dictLoader.loadDict(type));
+        }
+        applyChanges(changed);
+    }
+
+    /**
+     * 合并变更的字典, 字典为null表示删除该类型
+     */
+    public static void applyChanges(Map<String, Map<String, String>> changed) {
+        if (changed == null || changed.isEmpty()) {
+            return;
+        }
+        synchronized (DictCache.class) {
+            snapshot = snapshot.merge(changed);
+        }
+        if (missCache != null) {
+            missCache.invalidateAll(changed.keySet());
+        }
+        // 表字段查询缓存无法按字典类型定位, 与 refreshAll 一致整体失效
+        if (tableCache != null) {
+            tableCache.invalidateAll();
+        }
+    }
+
     public static void refreshAll() {
         if (dictLoader != null) {
             Map<String, Map<String, String>> allDict = dictLoader.loadAllDict();
             if (allDict != null) {
-                CACHE.clear();
-                CACHE.putAll(allDict);
+                synchronized (DictCache.class) {
+                    snapshot = snapshot.replaceAll(allDict);
+                }
+                missCache.invalidateAll();
+                tableCache.invalidateAll();
             }
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package io.github.kk01001.dict;
+
+import java.util.Collection;
+
+public interface DictChangeNotifier {
+
+    /**
+     * 通知其他节点重新加载字典
+     *
+     * @param types 变更的字典类型
+     */
+    void publish(Collection<String> types);
+}
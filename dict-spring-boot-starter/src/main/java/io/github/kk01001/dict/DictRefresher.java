@@ -1,23 +1,111 @@
 package io.github.kk01001.dict;
 
 import io.github.kk01001.dict.properties.DictProperties;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
-@RequiredArgsConstructor
-public class DictRefresher implements ApplicationRunner {
+public class DictRefresher implements ApplicationRunner, DisposableBean {
     
     private final DictProperties properties;
+
+    private final DictLoader dictLoader;
+
+    private final DictChangeNotifier changeNotifier;
+
+    /**
+     * 上次增量刷新时的数据版本
+     */
+    private volatile long lastVersion;
+
+    private ScheduledExecutorService scheduler;
+
+    public DictRefresher(DictProperties properties) {
+        this(properties, null, null);
+    }
+
+    public DictRefresher(DictProperties properties, DictLoader dictLoader, DictChangeNotifier changeNotifier) {
+        this.properties = properties;
+        this.dictLoader = dictLoader;
+        this.changeNotifier = changeNotifier;
+    }
     
     @Override
     public void run(ApplicationArguments args) {
+        if (dictLoader instanceof IncrementalDictLoader incrementalDictLoader) {
+            // 先记录版本再全量加载, 期间的变更会在下次增量刷新时重新加载
+            lastVersion = incrementalDictLoader.getLatestVersion();
+        }
         if (properties.getAutoRefresh()) {
             log.info("Start refreshing dictionary cache...");
             DictCache.refreshAll();
             log.info("Dictionary cache refresh completed");
         }
+
+        Duration interval = properties.getRefreshInterval();
+        if (interval != null && !interval.isZero() && !interval.isNegative()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "dict-refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::refreshQuietly, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 刷新字典, DictLoader 实现 IncrementalDictLoader 时只加载变更的字典, 否则全量刷新
+     */
+    public void refresh() {
+        if (!(dictLoader instanceof IncrementalDictLoader incrementalDictLoader)) {
+            DictCache.refreshAll();
+            return;
+        }
+        long latestVersion = incrementalDictLoader.getLatestVersion();
+        if (latestVersion == lastVersion) {
+            return;
+        }
+        Map<String, Map<String, String>> changed = incrementalDictLoader.loadChangedDict(lastVersion);
+        DictCache.applyChanges(changed);
+        lastVersion = latestVersion;
+        if (changed != null && !changed.isEmpty()) {
+            log.info("Dictionary incremental refresh completed, version: {}, types: {}", latestVersion, changed.keySet());
+        }
+    }
+
+    /**
+     * 字典变更后调用, 重新加载本节点指定类型的字典并通知其他节点
+     *
+     * @param types 变更的字典类型
+     */
+    public void notifyChanged(Collection<String> types) {
+        DictCache.reload(types);
+        if (changeNotifier != null) {
+            changeNotifier.publish(types);
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("Dictionary scheduled refresh failed", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
     }
-} 
\ No newline at end of file
+}
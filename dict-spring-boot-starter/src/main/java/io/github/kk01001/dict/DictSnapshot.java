@@ -0,0 +1,98 @@
+package io.github.kk01001.dict;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 不可变字典快照, 刷新时整体替换, 读取无锁
+ */
+public final class DictSnapshot {
+
+    public static final DictSnapshot EMPTY = new DictSnapshot(0, Map.of());
+
+    /**
+     * 版本号, 每次替换递增
+     */
+    @Getter
+    private final long version;
+
+    /**
+     * type -> (code -> text), 均为不可变Map
+     */
+    private final Map<String, Map<String, String>> dicts;
+
+    private DictSnapshot(long version, Map<String, Map<String, String>> dicts) {
+        this.version = version;
+        this.dicts = dicts;
+    }
+
+    public Map<String, String> get(String type) {
+        return dicts.get(type);
+    }
+
+    public boolean contains(String type) {
+        return dicts.containsKey(type);
+    }
+
+    public String getText(String type, String value) {
+        Map<String, String> dict = dicts.get(type);
+        return dict == null ? null : dict.get(value);
+    }
+
+    public int size() {
+        return dicts.size();
+    }
+
+    public Map<String, Map<String, String>> asMap() {
+        return dicts;
+    }
+
+    /**
+     * 替换全部字典
+     */
+    public DictSnapshot replaceAll(Map<String, Map<String, String>> allDict) {
+        Map<String, Map<String, String>> copy = new HashMap<>(allDict.size());
+        allDict.forEach((type, dict) -> {
+            if (type != null && dict != null) {
+                copy.put(type.intern(), compact(dict));
+            }
+        });
+        return new DictSnapshot(version + 1, Map.copyOf(copy));
+    }
+
+    /**
+     * 替换或删除部分字典, value为null表示删除该类型
+     */
+    public DictSnapshot merge(Map<String, Map<String, String>> changed) {
+        Map<String, Map<String, String>> copy = new HashMap<>(dicts);
+        changed.forEach((type, dict) -> {
+            if (type == null) {
+                return;
+            }
+            if (dict == null) {
+                copy.remove(type);
+            } else {
+                copy.put(type.intern(), compact(dict));
+            }
+        });
+        return new DictSnapshot(version + 1, Map.copyOf(copy));
+    }
+
+    /**
+     * 复制为紧凑的不可变Map, 忽略空key和空value, 字典编码intern复用
+     */
+    private static Map<String, String> compact(Map<String, String> dict) {
+        if (dict.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> copy = new HashMap<>(dict.size());
+        dict.forEach((code, text) -> {
+            if (code != null && text != null) {
+                copy.put(code.intern(), text);
+            }
+        });
+        return Map.copyOf(copy);
+    }
+}
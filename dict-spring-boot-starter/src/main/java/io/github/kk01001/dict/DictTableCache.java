@@ -0,0 +1,121 @@
+package io.github.kk01001.dict;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.kk01001.dict.properties.DictProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 指定 table 和 field 时的查询缓存
+ * 首次查询某张表时整表预加载, 行数超过 preloadLimit 时退化为按值查询并缓存结果
+ * 表名和列名会拼接到SQL中, 只允许字母, 数字, 下划线和 schema.table 形式
+ */
+@Slf4j
+public class DictTableCache {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final DictProperties.Table properties;
+
+    /**
+     * table:keyColumn:field -> (key -> text), 超过预加载行数时为空
+     */
+    private final Cache<String, Optional<Map<String, String>>> tableCache;
+
+    /**
+     * table:keyColumn:field:key -> text
+     */
+    private final Cache<String, Optional<String>> valueCache;
+
+    public DictTableCache(JdbcTemplate jdbcTemplate, DictProperties.Table properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.tableCache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getExpire())
+                .build();
+        this.valueCache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getExpire())
+                .maximumSize(properties.getMaxSize())
+                .build();
+    }
+
+    /**
+     * 查询表字段文本
+     *
+     * @param table     表名
+     * @param keyColumn 字典值对应的列
+     * @param field     文本列
+     * @param value     字典值
+     */
+    public String getText(String table, String keyColumn, String field, String value) {
+        String tableKey = table + ":" + keyColumn + ":" + field;
+        // 同一张表并发查询只预加载一次
+        // 按值查询前一定已经过预加载, 标识符只在首次加载时校验
+        Optional<Map<String, String>> tableDict = tableCache.get(tableKey, k -> {
+            checkIdentifier(table);
+            checkIdentifier(keyColumn);
+            checkIdentifier(field);
+            return preload(table, keyColumn, field);
+        });
+        if (tableDict.isPresent()) {
+            return tableDict.get().get(value);
+        }
+        return valueCache.get(tableKey + ":" + value, k -> Optional.ofNullable(query(table, keyColumn, field, value)))
+                .orElse(null);
+    }
+
+    public void invalidateAll() {
+        tableCache.invalidateAll();
+        valueCache.invalidateAll();
+    }
+
+    private static void checkIdentifier(String identifier) {
+        if (identifier == null || !IDENTIFIER.matcher(identifier).matches()) {
+            throw new IllegalArgumentException("Illegal dict table identifier: " + identifier);
+        }
+    }
+
+    private Optional<Map<String, String>> preload(String table, String keyColumn, String field) {
+        int limit = properties.getPreloadLimit();
+        if (limit <= 0) {
+            return Optional.empty();
+        }
+        String sql = String.format("SELECT %s, %s FROM %s", keyColumn, field, table);
+        Map<String, String> result = new HashMap<>();
+        int[] rows = {0};
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setMaxRows(limit + 1);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            rows[0]++;
+            String key = rs.getString(1);
+            String text = rs.getString(2);
+            if (key != null && text != null) {
+                result.put(key, text);
+            }
+        });
+        if (rows[0] > limit) {
+            log.info("Dict table {} exceeds preload limit {}, fallback to query by value", table, limit);
+            return Optional.empty();
+        }
+        return Optional.of(Map.copyOf(result));
+    }
+
+    private String query(String table, String keyColumn, String field, String value) {
+        String sql = String.format("SELECT %s FROM %s WHERE %s = ?", field, table, keyColumn);
+        List<String> list = jdbcTemplate.queryForList(sql, String.class, value);
+        return list.isEmpty() ? null : list.get(0);
+    }
+}
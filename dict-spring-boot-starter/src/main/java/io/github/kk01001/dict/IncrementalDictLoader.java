@@ -0,0 +1,21 @@
+package io.github.kk01001.dict;
+
+import java.util.Map;
+
+public interface IncrementalDictLoader extends DictLoader {
+
+    /**
+     * 获取当前字典数据版本, 如字典表最大更新时间戳
+     *
+     * @return 数据版本
+     */
+    long getLatestVersion();
+
+    /**
+     * 加载指定版本之后变更的字典
+     *
+     * @param sinceVersion 上次刷新时的数据版本
+     * @return 变更的字典数据(type -> (code -> text)), 字典为null表示该类型已删除
+     */
+    Map<String, Map<String, String>> loadChangedDict(long sinceVersion);
+}
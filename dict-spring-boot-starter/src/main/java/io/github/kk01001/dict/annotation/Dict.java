@@ -30,4 +30,9 @@ public @interface Dict {
      * 指定字段名
      */
     String field() default "";
+
+    /**
+     * 指定表中字典值所在的列, 为空时使用 value 作为列名
+     */
+    String keyColumn() default "";
 } 
\ No newline at end of file
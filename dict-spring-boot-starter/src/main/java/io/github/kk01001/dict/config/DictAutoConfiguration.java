@@ -2,15 +2,20 @@ package io.github.kk01001.dict.config;
 
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import io.github.kk01001.dict.DictCache;
+import io.github.kk01001.dict.DictChangeNotifier;
 import io.github.kk01001.dict.DictLoader;
 import io.github.kk01001.dict.DictRefresher;
 import io.github.kk01001.dict.jackson.DictModule;
 import io.github.kk01001.dict.jackson.DictSerializer;
 import io.github.kk01001.dict.properties.DictProperties;
+import io.github.kk01001.dict.redis.RedisDictChangeNotifier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 @Configuration
@@ -19,15 +24,29 @@ import org.springframework.jdbc.core.JdbcTemplate;
 public class DictAutoConfiguration {
 
     @Bean
-    public DictModule dictModule(DictLoader dictLoader, JdbcTemplate jdbcTemplate) {
-        DictCache.init(dictLoader, jdbcTemplate);  // 初始化DictCache
+    public DictModule dictModule(DictLoader dictLoader, JdbcTemplate jdbcTemplate, DictProperties properties) {
+        DictCache.init(dictLoader, jdbcTemplate, properties);  // 初始化DictCache
         SimpleModule module = new SimpleModule();
         module.addSerializer(String.class, new DictSerializer());
         return new DictModule(module);
     }
 
     @Bean
-    public DictRefresher dictRefresher(DictProperties properties) {
-        return new DictRefresher(properties);
+    public DictRefresher dictRefresher(DictProperties properties,
+                                       DictLoader dictLoader,
+                                       ObjectProvider<DictChangeNotifier> changeNotifierProvider) {
+        return new DictRefresher(properties, dictLoader, changeNotifierProvider.getIfAvailable());
+    }
+
+    @Configuration
+    @ConditionalOnClass(StringRedisTemplate.class)
+    @ConditionalOnProperty(prefix = "dict.notify", name = "enabled", havingValue = "true")
+    static class DictNotifyConfiguration {
+
+        @Bean
+        public RedisDictChangeNotifier redisDictChangeNotifier(StringRedisTemplate stringRedisTemplate,
+                                                               DictProperties properties) {
+            return new RedisDictChangeNotifier(stringRedisTemplate, properties.getNotify().getChannel());
+        }
     }
 } 
\ No newline at end of file
@@ -23,7 +23,7 @@ public class DictSerializer extends StdSerializer<String> implements ContextualS
     public void serialize(String value, JsonGenerator gen, SerializerProvider provider) throws IOException {
         gen.writeString(value);
         if (dict != null) {
-            String text = DictCache.getDictText(dict.value(), value, dict.table(), dict.field());
+            String text = DictCache.getDictText(dict.value(), value, dict.table(), dict.field(), dict.keyColumn());
             if (text != null) {
                 // 生成字典文本字段
                 gen.writeStringField(gen.getOutputContext().getCurrentName() + dict.suffix(), text);
@@ -3,6 +3,8 @@ package io.github.kk01001.dict.properties;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @Data
 @ConfigurationProperties(prefix = "dict")
 public class DictProperties {
@@ -16,4 +18,58 @@ public class DictProperties {
      * 是否在启动时自动刷新字典
      */
     private Boolean autoRefresh = true;
-} 
\ No newline at end of file
+
+    /**
+     * 定时刷新间隔, 为空不定时刷新
+     * DictLoader 实现 IncrementalDictLoader 时只加载变更的字典, 否则全量刷新
+     */
+    private Duration refreshInterval;
+
+    /**
+     * 字典变更通知
+     */
+    private Notify notify = new Notify();
+
+    /**
+     * 字典类型不存在时的缓存时间, 期间不再调用 DictLoader.loadDict
+     */
+    private Duration missTtl = Duration.ofMinutes(1);
+
+    /**
+     * 指定 table 和 field 时的查询缓存
+     */
+    private Table table = new Table();
+
+    @Data
+    public static class Table {
+
+        /**
+         * 整表预加载的最大行数, 超过时退化为按值查询
+         */
+        private Integer preloadLimit = 10000;
+
+        /**
+         * 缓存过期时间
+         */
+        private Duration expire = Duration.ofMinutes(10);
+
+        /**
+         * 按值查询缓存的最大条数
+         */
+        private Long maxSize = 100000L;
+    }
+
+    @Data
+    public static class Notify {
+
+        /**
+         * 是否启用Redis pub/sub变更通知
+         */
+        private Boolean enabled = false;
+
+        /**
+         * 通知channel
+         */
+        private String channel = "dict:change";
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.kk01001.dict.redis;
+
+import io.github.kk01001.dict.DictCache;
+import io.github.kk01001.dict.DictChangeNotifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 基于Redis pub/sub的字典变更通知, 消息格式: 节点id|type1,type2
+ */
+@Slf4j
+public class RedisDictChangeNotifier implements DictChangeNotifier, MessageListener, InitializingBean, DisposableBean {
+
+    private static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final String channel;
+
+    /**
+     * 当前节点id, 忽略本节点发送的通知
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    public RedisDictChangeNotifier(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisTemplate.getRequiredConnectionFactory());
+        // 变更通知很少, 但收到后会同步重新加载字典(可能查询数据库), 放到虚拟线程中阻塞不占用平台线程
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("dict-change-listener-");
+        taskExecutor.setVirtualThreads(true);
+        listenerContainer.setTaskExecutor(taskExecutor);
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @Override
+    public void publish(Collection<String> types) {
+        if (types == null || types.isEmpty()) {
+            return;
+        }
+        redisTemplate.convertAndSend(channel, nodeId + SEPARATOR + String.join(",", types));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.indexOf(SEPARATOR);
+        if (index < 0 || nodeId.equals(body.substring(0, index))) {
+            return;
+        }
+        List<String> types = Arrays.stream(body.substring(index + 1).split(","))
+                .filter(type -> !type.isEmpty())
+                .toList();
+        try {
+            DictCache.reload(types);
+            log.info("Dictionary reloaded by change notification: {}", types);
+        } catch (Exception e) {
+            log.error("Dictionary reload failed: {}", types, e);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.kk01001.disruptor.annotation;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 23:20:00
+ * @description 多消费线程时的事件分配方式
+ */
+public enum ConsumerMode {
+
+    /**
+     * 工作池 按序号轮流分配给各消费线程 每个事件只处理一次 不保证顺序
+     */
+    WORKER_POOL,
+
+    /**
+     * 按分片key分配 相同key的事件由同一消费线程按顺序处理
+     */
+    KEY_SHARDED
+}
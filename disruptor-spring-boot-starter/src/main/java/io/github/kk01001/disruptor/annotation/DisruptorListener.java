@@ -23,11 +23,27 @@ public @interface DisruptorListener {
      */
     int threads() default 1;
     
+    /**
+     * 多消费线程时的事件分配方式
+     */
+    ConsumerMode consumerMode() default ConsumerMode.WORKER_POOL;
+
+    /**
+     * KEY_SHARDED 模式的分片key, 以消息为根对象的SpEL表达式, 如 "orderId"
+     * 为空时使用消息的 hashCode
+     */
+    String shardKey() default "";
+
     /**
      * 是否使用虚拟线程
      */
     boolean virtualThread() default true;
 
+    /**
+     * 使用平台线程时是否绑定CPU核心, 需要引入 net.openhft:affinity
+     */
+    boolean cpuAffinity() default false;
+
     /**
      * 生产者类型
      */
@@ -42,4 +58,20 @@ public @interface DisruptorListener {
      * 缓冲区大小
      */
     int bufferSize() default 1024;
+
+    /**
+     * 批量消费最大条数, 方法参数为 List 时生效
+     */
+    int maxBatchSize() default 100;
+
+    /**
+     * 批量消费最长等待时间(毫秒), 方法参数为 List 时生效
+     * <p>
+     * 为0(默认)时在 endOfBatch 或达到 maxBatchSize 时提交, 不增加延迟。
+     * <p>
+     * 大于0时不在 endOfBatch 提交, 而是跨 endOfBatch 累积, 达到 maxBatchSize 或等待超时时提交:
+     * 低负载下每批最多增加 maxLingerMs 的延迟, 超时提交在该队列的 Disruptor-Batch-Linger 线程中执行监听方法(与消费线程互斥)。
+     * 适合下游按批写入成本高、可接受延迟换取更大批次的场景
+     */
+    long maxLingerMs() default 0;
 } 
\ No newline at end of file
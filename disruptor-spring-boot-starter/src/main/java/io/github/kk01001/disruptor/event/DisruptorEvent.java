@@ -10,4 +10,21 @@ import lombok.Data;
 @Data
 public class DisruptorEvent<T> {
     private T data;
+
+    /**
+     * 发布时间, System.nanoTime(), 仅启用监控时写入
+     */
+    private long publishNanos;
+
+    /**
+     * 分片序号, KEY_SHARDED 多消费线程时由发布方写入, 消费线程据此判断是否处理
+     */
+    private int shard;
+
+    /**
+     * 消费完成后清空消息, 避免RingBuffer持有已处理的消息直到槽位被覆盖
+     */
+    public void clear() {
+        this.data = null;
+    }
 } 
\ No newline at end of file
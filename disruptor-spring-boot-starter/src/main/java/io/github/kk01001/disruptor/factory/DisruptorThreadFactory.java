@@ -0,0 +1,56 @@
+package io.github.kk01001.disruptor.factory;
+
+import lombok.extern.slf4j.Slf4j;
+import net.openhft.affinity.AffinityStrategies;
+import net.openhft.affinity.AffinityThreadFactory;
+import org.springframework.util.ClassUtils;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 23:20:00
+ * @description Disruptor消费线程工厂
+ */
+@Slf4j
+public final class DisruptorThreadFactory {
+
+    private static final boolean AFFINITY_PRESENT =
+            ClassUtils.isPresent("net.openhft.affinity.AffinityThreadFactory", DisruptorThreadFactory.class.getClassLoader());
+
+    private DisruptorThreadFactory() {
+    }
+
+    /**
+     * 创建消费线程工厂
+     *
+     * @param queueName     队列名称
+     * @param virtualThread 是否使用虚拟线程
+     * @param cpuAffinity   平台线程是否绑定CPU核心
+     * @return 线程工厂
+     */
+    public static ThreadFactory create(String queueName, boolean virtualThread, boolean cpuAffinity) {
+        String prefix = "Disruptor-" + queueName + "-";
+        if (virtualThread) {
+            return Thread.ofVirtual().name(prefix, 0).factory();
+        }
+        if (cpuAffinity) {
+            if (AFFINITY_PRESENT) {
+                return AffinityHolder.create(prefix);
+            }
+            log.warn("net.openhft:affinity not found, cpuAffinity ignored for queue: {}", queueName);
+        }
+        return Thread.ofPlatform().name(prefix, 0).daemon(true).factory();
+    }
+
+    /**
+     * 单独的类, 未引入 affinity 时不加载
+     */
+    private static final class AffinityHolder {
+
+        private static ThreadFactory create(String prefix) {
+            // 每个消费线程尽量绑定不同的物理核心
+            return new AffinityThreadFactory(prefix, true, AffinityStrategies.DIFFERENT_CORE);
+        }
+    }
+}
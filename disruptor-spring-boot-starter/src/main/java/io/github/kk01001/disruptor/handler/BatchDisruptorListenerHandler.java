@@ -0,0 +1,140 @@
+package io.github.kk01001.disruptor.handler;
+
+import io.github.kk01001.disruptor.annotation.ConsumerMode;
+import io.github.kk01001.disruptor.event.DisruptorEvent;
+import io.github.kk01001.disruptor.monitor.ConsumerRecorder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 23:40:00
+ * @description 批量消费处理器, 监听方法参数为 List 时使用
+ * <p>
+ * maxLingerMs 为0时在 endOfBatch 或达到 maxBatchSize 时提交;
+ * 大于0时有意不在 endOfBatch 提交, 跨 endOfBatch 累积, 达到 maxBatchSize 或等待超时时由定时线程提交,
+ * 以延迟换取更大批次, 见 {@link io.github.kk01001.disruptor.annotation.DisruptorListener#maxLingerMs()};
+ * 定时线程已关闭时退化为在 endOfBatch 提交
+ */
+public class BatchDisruptorListenerHandler extends DisruptorListenerHandler {
+
+    private final int maxBatchSize;
+
+    private final long maxLingerMs;
+
+    /**
+     * 超时提交线程, 同一队列共用, maxLingerMs 为0时为空
+     */
+    private final ScheduledExecutorService lingerExecutor;
+
+    /**
+     * 批量大小记录
+     */
+    private final IntConsumer batchSizeRecorder;
+
+    /**
+     * 消费线程和超时提交线程互斥, 保证提交顺序
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private List<Object> batch;
+
+    private ScheduledFuture<?> lingerFuture;
+
+    public BatchDisruptorListenerHandler(Object bean,
+                                         ListenerInvoker invoker,
+                                         int ordinal,
+                                         int total,
+                                         ConsumerMode consumerMode,
+                                         ConsumerRecorder consumerRecorder,
+                                         int maxBatchSize,
+                                         long maxLingerMs,
+                                         ScheduledExecutorService lingerExecutor,
+                                         IntConsumer batchSizeRecorder) {
+        super(bean, invoker, ordinal, total, consumerMode, consumerRecorder);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxLingerMs = maxLingerMs;
+        this.lingerExecutor = lingerExecutor;
+        this.batchSizeRecorder = batchSizeRecorder;
+        this.batch = new ArrayList<>(this.maxBatchSize);
+    }
+
+    @Override
+    public void onEvent(DisruptorEvent<Object> event, long sequence, boolean endOfBatch) {
+        boolean owned = isOwned(event, sequence);
+        // 未分配给当前处理器的事件也需要处理 endOfBatch
+        if (!owned && !endOfBatch) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (owned) {
+                batch.add(event.getData());
+                if (consumerRecorder != null) {
+                    consumerRecorder.recordLatency(event.getPublishNanos());
+                }
+                clearSlot(event);
+                if (batch.size() == 1 && maxLingerMs > 0) {
+                    scheduleLinger();
+                }
+            }
+            // 未能注册超时提交时在 endOfBatch 提交, 避免消息滞留
+            if (batch.size() >= maxBatchSize || (endOfBatch && lingerFuture == null)) {
+                flush();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onShutdown() {
+        lock.lock();
+        try {
+            flush();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void scheduleLinger() {
+        try {
+            lingerFuture = lingerExecutor.schedule(this::flushOnLinger, maxLingerMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 应用关闭时定时线程先于消费线程停止, 不能让异常终止消费线程
+            lingerFuture = null;
+        }
+    }
+
+    private void flushOnLinger() {
+        lock.lock();
+        try {
+            flush();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flush() {
+        if (lingerFuture != null) {
+            lingerFuture.cancel(false);
+            lingerFuture = null;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Object> events = batch;
+        batch = new ArrayList<>(maxBatchSize);
+        if (batchSizeRecorder != null) {
+            batchSizeRecorder.accept(events.size());
+        }
+        invoke(events);
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.kk01001.disruptor.handler;
+
+import com.lmax.disruptor.EventHandler;
+import io.github.kk01001.disruptor.annotation.ConsumerMode;
+import io.github.kk01001.disruptor.event.DisruptorEvent;
+import io.github.kk01001.disruptor.monitor.ConsumerRecorder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 23:20:00
+ * @description DisruptorListener 方法调用处理器
+ * <p>
+ * 多个消费线程共享同一个RingBuffer, 每个处理器只处理分配给自己的事件:
+ * WORKER_POOL 按序号取模, KEY_SHARDED 比较发布时由 {@link ShardSelector} 写入事件的分片序号
+ * <p>
+ * 所有处理器处于同一消费阶段, 每个处理器都要走过每个序号, 生产者只有在最慢的处理器越过某个槽位后才能覆盖它;
+ * 某个分片的监听方法变慢(或热点key集中到一个分片)时, RingBuffer被占满后会阻塞所有分片的发布
+ */
+@Slf4j
+public class DisruptorListenerHandler implements EventHandler<DisruptorEvent<Object>> {
+
+    private final Object bean;
+
+    private final ListenerInvoker invoker;
+
+    /**
+     * 当前处理器序号
+     */
+    private final int ordinal;
+
+    /**
+     * 处理器总数
+     */
+    private final int total;
+
+    private final ConsumerMode consumerMode;
+
+    /**
+     * 消费端指标记录, 未启用监控时为空
+     */
+    protected final ConsumerRecorder consumerRecorder;
+
+    public DisruptorListenerHandler(Object bean,
+                                    ListenerInvoker invoker,
+                                    int ordinal,
+                                    int total,
+                                    ConsumerMode consumerMode,
+                                    ConsumerRecorder consumerRecorder) {
+        this.bean = bean;
+        this.invoker = invoker;
+        this.ordinal = ordinal;
+        this.total = total;
+        this.consumerMode = consumerMode;
+        this.consumerRecorder = consumerRecorder;
+    }
+
+    @Override
+    public void onEvent(DisruptorEvent<Object> event, long sequence, boolean endOfBatch) {
+        if (!isOwned(event, sequence)) {
+            return;
+        }
+        Object data = event.getData();
+        if (consumerRecorder != null) {
+            consumerRecorder.recordLatency(event.getPublishNanos());
+        }
+        clearSlot(event);
+        invoke(data);
+    }
+
+    /**
+     * 事件是否分配给当前处理器
+     */
+    protected boolean isOwned(DisruptorEvent<Object> event, long sequence) {
+        if (total <= 1) {
+            return true;
+        }
+        int shard = consumerMode == ConsumerMode.KEY_SHARDED
+                ? event.getShard()
+                : (int) Math.floorMod(sequence, (long) total);
+        return shard == ordinal;
+    }
+
+    /**
+     * 调用监听方法
+     */
+    protected void invoke(Object arg) {
+        long start = consumerRecorder != null ? System.nanoTime() : 0L;
+        boolean failed = false;
+        try {
+            invoker.invoke(bean, arg);
+        } catch (Throwable e) {
+            failed = true;
+            log.error("Error processing disruptor event", e);
+        }
+        if (consumerRecorder != null) {
+            consumerRecorder.recordHandle(System.nanoTime() - start, failed);
+        }
+    }
+
+    /**
+     * 清空已取出消息的槽位, 其他处理器只读取分片序号, 不再需要消息
+     */
+    protected void clearSlot(DisruptorEvent<Object> event) {
+        event.clear();
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.kk01001.disruptor.handler;
+
+import java.lang.reflect.Method;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 23:55:00
+ * @description 监听方法调用器
+ * <p>
+ * 优先通过 LambdaMetafactory 生成直接调用的 BiConsumer, 可被JIT内联;
+ * 生成失败时退化为 MethodHandle, 无法获取 Lookup 时退化为反射调用
+ */
+@FunctionalInterface
+public interface ListenerInvoker {
+
+    /**
+     * 调用监听方法
+     *
+     * @param bean 监听器实例
+     * @param arg  消息
+     */
+    void invoke(Object bean, Object arg) throws Throwable;
+
+    /**
+     * 为监听方法创建调用器, 方法只能有一个参数
+     *
+     * @param method 监听方法
+     */
+    static ListenerInvoker of(Method method) {
+        return ListenerInvokers.create(method);
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.kk01001.disruptor.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 23:55:00
+ * @description 监听方法调用器创建
+ */
+@Slf4j
+final class ListenerInvokers {
+
+    private static final MethodType INVOKE_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private ListenerInvokers() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static ListenerInvoker create(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        MethodHandles.Lookup lookup;
+        MethodHandle handle;
+        try {
+            lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.warn("Cannot access disruptor listener method {}, fallback to reflection", method, e);
+            ReflectionUtils.makeAccessible(method);
+            return (bean, arg) -> method.invoke(bean, arg);
+        }
+
+        if (!isStatic) {
+            try {
+                Class<?> parameterType = MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType();
+                BiConsumer<Object, Object> consumer = (BiConsumer<Object, Object>) LambdaMetafactory.metafactory(
+                        lookup,
+                        "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        INVOKE_TYPE,
+                        handle,
+                        MethodType.methodType(void.class, declaringClass, parameterType)
+                ).getTarget().invoke();
+                return consumer::accept;
+            } catch (Throwable e) {
+                log.debug("Cannot generate lambda invoker for {}, fallback to MethodHandle", method, e);
+            }
+        }
+
+        // 静态方法忽略实例参数
+        MethodHandle target = (isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle)
+                .asType(INVOKE_TYPE);
+        return (bean, arg) -> target.invokeExact(bean, arg);
+    }
+}
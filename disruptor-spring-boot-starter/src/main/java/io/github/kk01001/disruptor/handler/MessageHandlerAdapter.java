@@ -2,6 +2,7 @@ package io.github.kk01001.disruptor.handler;
 
 import com.lmax.disruptor.EventHandler;
 import io.github.kk01001.disruptor.event.DisruptorEvent;
+import io.github.kk01001.disruptor.monitor.ConsumerRecorder;
 
 /**
  * @author kk01001
@@ -12,12 +13,57 @@ public class MessageHandlerAdapter<T> implements EventHandler<DisruptorEvent<T>>
 
     private final MessageHandler<T> messageHandler;
 
+    /**
+     * 消费端指标记录, 未启用监控时为空
+     */
+    private final ConsumerRecorder consumerRecorder;
+
+    /**
+     * 处理完成后是否清空槽位, 开启后 MessageHandler 不能在 handle 返回后继续引用事件
+     */
+    private final boolean clearSlot;
+
     public MessageHandlerAdapter(MessageHandler<T> messageHandler) {
+        this(messageHandler, null);
+    }
+
+    public MessageHandlerAdapter(MessageHandler<T> messageHandler, ConsumerRecorder consumerRecorder) {
+        this(messageHandler, consumerRecorder, false);
+    }
+
+    public MessageHandlerAdapter(MessageHandler<T> messageHandler, ConsumerRecorder consumerRecorder, boolean clearSlot) {
         this.messageHandler = messageHandler;
+        this.consumerRecorder = consumerRecorder;
+        this.clearSlot = clearSlot;
     }
 
     @Override
     public void onEvent(DisruptorEvent<T> event, long sequence, boolean endOfBatch) {
-        messageHandler.handle(event);
+        if (consumerRecorder == null) {
+            handle(event);
+            return;
+        }
+        long start = System.nanoTime();
+        consumerRecorder.recordLatency(event.getPublishNanos());
+        boolean failed = true;
+        try {
+            handle(event);
+            failed = false;
+        } finally {
+            consumerRecorder.recordHandle(System.nanoTime() - start, failed);
+        }
+    }
+
+    private void handle(DisruptorEvent<T> event) {
+        if (!clearSlot) {
+            messageHandler.handle(event);
+            return;
+        }
+        try {
+            messageHandler.handle(event);
+        } finally {
+            // 处理完成后清空槽位, 避免RingBuffer持有已处理的消息
+            event.clear();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package io.github.kk01001.disruptor.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.expression.Expression;
+
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 23:58:00
+ * @description KEY_SHARDED 模式的分片计算
+ * <p>
+ * 在发布消息时计算一次并写入事件, 各消费线程只比较分片序号, 不再各自求值分片key
+ */
+@Slf4j
+public class ShardSelector implements ToIntFunction<Object> {
+
+    /**
+     * 分片key表达式, 为空使用消息的 hashCode
+     */
+    private final Expression shardKeyExpression;
+
+    /**
+     * 分片总数
+     */
+    private final int total;
+
+    public ShardSelector(Expression shardKeyExpression, int total) {
+        this.shardKeyExpression = shardKeyExpression;
+        this.total = total;
+    }
+
+    @Override
+    public int applyAsInt(Object data) {
+        Object shardKey = data;
+        if (shardKeyExpression != null && data != null) {
+            try {
+                shardKey = shardKeyExpression.getValue(data);
+            } catch (Exception e) {
+                log.warn("Error evaluating disruptor shard key, fallback to message hashCode", e);
+            }
+        }
+        return Math.floorMod(Objects.hashCode(shardKey), total);
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.kk01001.disruptor.monitor;
+
+/**
+ * @author kk01001
+ * @date 2026-10-19 00:30:00
+ * @description 消费端指标记录, 不依赖 Micrometer 类型, 未启用监控时为空
+ */
+public interface ConsumerRecorder {
+
+    /**
+     * 记录发布到开始消费的延迟
+     *
+     * @param publishNanos 发布时间, System.nanoTime()
+     */
+    void recordLatency(long publishNanos);
+
+    /**
+     * 记录监听方法执行耗时
+     *
+     * @param durationNanos 执行耗时
+     * @param failed        是否抛出异常
+     */
+    void recordHandle(long durationNanos, boolean failed);
+}
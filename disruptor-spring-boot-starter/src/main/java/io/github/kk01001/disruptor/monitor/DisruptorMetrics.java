@@ -3,14 +3,21 @@ package io.github.kk01001.disruptor.monitor;
 import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.dsl.Disruptor;
 import io.github.kk01001.disruptor.event.DisruptorEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
 /**
  * @author kk01001
  * @date 2025-02-19 10:15:47
- * @description Disruptor 监控类，用于监控 Disruptor 队列的缓冲区大小和剩余容量
+ * @description Disruptor 监控类，用于监控 Disruptor 队列的缓冲区大小、剩余容量、吞吐、消费滞后和延迟
  */
 @Slf4j
 public class DisruptorMetrics {
@@ -31,6 +38,74 @@ public class DisruptorMetrics {
         registerMetrics(queueName, disruptor);
     }
 
+    /**
+     * 批量消费大小分布
+     *
+     * @param queueName 队列名称
+     * @return 批量大小记录
+     */
+    public IntConsumer batchSizeRecorder(String queueName) {
+        DistributionSummary summary = DistributionSummary.builder("disruptor.batch.size")
+                .tag("queue", queueName)
+                .description("The number of events delivered to a batch listener per call")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        return summary::record;
+    }
+
+    /**
+     * 消费端指标: 发布到消费的延迟、监听方法耗时和异常次数
+     *
+     * @param queueName 队列名称
+     * @return 消费端指标记录
+     */
+    public ConsumerRecorder consumerRecorder(String queueName) {
+        Timer latency = Timer.builder("disruptor.event.latency")
+                .tag("queue", queueName)
+                .description("The time from publishing an event to the start of its consumption")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Timer duration = Timer.builder("disruptor.handler.duration")
+                .tag("queue", queueName)
+                .description("The execution time of the disruptor listener")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Counter errors = Counter.builder("disruptor.handler.errors")
+                .tag("queue", queueName)
+                .description("The number of exceptions thrown by the disruptor listener")
+                .register(meterRegistry);
+        return new ConsumerRecorder() {
+            @Override
+            public void recordLatency(long publishNanos) {
+                latency.record(System.nanoTime() - publishNanos, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void recordHandle(long durationNanos, boolean failed) {
+                duration.record(durationNanos, TimeUnit.NANOSECONDS);
+                if (failed) {
+                    errors.increment();
+                }
+            }
+        };
+    }
+
+    /**
+     * 发送拒绝计数
+     *
+     * @param queueName 队列名称
+     * @param reason    拒绝原因, full: RingBuffer已满, timeout: 等待超时
+     * @return 拒绝记录
+     */
+    public Runnable rejectionRecorder(String queueName, String reason) {
+        Counter counter = Counter.builder("disruptor.send.rejected")
+                .tag("queue", queueName)
+                .tag("reason", reason)
+                .description("The number of messages rejected because the ring buffer was full")
+                .register(meterRegistry);
+        return counter::increment;
+    }
+
     /**
      * 注册监控指标
      *
@@ -61,6 +136,23 @@ public class DisruptorMetrics {
                 .description("The remaining capacity of the Disruptor ring buffer")
                 .register(meterRegistry);
 
+        // 发布和消费计数直接读取序号, 发送和消费路径无额外开销
+        FunctionCounter.builder("disruptor.published", ringBuffer, rb -> rb.getCursor() + 1)
+                .tag("queue", queueName)
+                .description("The number of events published to the Disruptor ring buffer")
+                .register(meterRegistry);
+
+        FunctionCounter.builder("disruptor.consumed", ringBuffer, rb -> rb.getMinimumGatingSequence() + 1)
+                .tag("queue", queueName)
+                .description("The number of events processed by all consumers")
+                .register(meterRegistry);
+
+        // 消费滞后, 持续增长说明消费端处理能力不足
+        Gauge.builder("disruptor.consumer.lag", ringBuffer, rb -> rb.getCursor() - rb.getMinimumGatingSequence())
+                .tag("queue", queueName)
+                .description("The number of published events not yet processed by the slowest consumer")
+                .register(meterRegistry);
+
         log.info("Registered metrics for Disruptor queue: {}", queueName);
     }
 } 
\ No newline at end of file
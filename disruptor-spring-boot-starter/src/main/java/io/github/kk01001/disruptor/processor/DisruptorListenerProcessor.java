@@ -1,22 +1,37 @@
 package io.github.kk01001.disruptor.processor;
 
 import com.lmax.disruptor.dsl.Disruptor;
+import io.github.kk01001.disruptor.annotation.ConsumerMode;
 import io.github.kk01001.disruptor.annotation.DisruptorListener;
 import io.github.kk01001.disruptor.event.DisruptorEvent;
 import io.github.kk01001.disruptor.factory.DisruptorEventFactory;
-import io.github.kk01001.disruptor.handler.DisruptorHandler;
+import io.github.kk01001.disruptor.factory.DisruptorThreadFactory;
+import io.github.kk01001.disruptor.handler.BatchDisruptorListenerHandler;
+import io.github.kk01001.disruptor.handler.DisruptorListenerHandler;
+import io.github.kk01001.disruptor.handler.ListenerInvoker;
+import io.github.kk01001.disruptor.handler.ShardSelector;
+import io.github.kk01001.disruptor.monitor.ConsumerRecorder;
 import io.github.kk01001.disruptor.template.DisruptorTemplate;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.NonNull;
 import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
-import java.util.concurrent.ThreadFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 
 /**
  * @author kk01001
@@ -24,12 +39,18 @@ import java.util.concurrent.atomic.AtomicInteger;
  * @description Disruptor监听器处理器，用于处理@DisruptorListener注解
  */
 @Slf4j
-public class DisruptorListenerProcessor implements BeanPostProcessor {
+public class DisruptorListenerProcessor implements BeanPostProcessor, DisposableBean {
 
-    private final ThreadFactory threadFactory = Thread.ofVirtual().name("Disruptor-Virtual-Thread").factory();
+    private final SpelExpressionParser parser = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, getClass().getClassLoader()));
 
     private final DisruptorTemplate disruptorTemplate;
 
+    /**
+     * 批量消费超时提交线程, 每个 maxLingerMs 大于0的队列一个, 避免慢监听器阻塞其他队列的超时提交
+     */
+    private final List<ScheduledExecutorService> lingerExecutors = new CopyOnWriteArrayList<>();
+
     public DisruptorListenerProcessor(DisruptorTemplate disruptorTemplate) {
         this.disruptorTemplate = disruptorTemplate;
     }
@@ -55,28 +76,61 @@ public class DisruptorListenerProcessor implements BeanPostProcessor {
         Disruptor<DisruptorEvent<Object>> disruptor = new Disruptor<>(
                 factory,
                 listener.bufferSize(),
-                threadFactory,
+                DisruptorThreadFactory.create(queueName, listener.virtualThread(), listener.cpuAffinity()),
                 listener.producerType(),
                 listener.waitStrategy().create()
         );
 
-        // 创建自定义Handler来调用被注解的方法
-        DisruptorHandler<Object> handler = new DisruptorHandler<>() {
-            @Override
-            public void onEvent(DisruptorEvent<Object> event, long sequence, boolean endOfBatch) {
-                try {
-                    method.invoke(bean, event.getData());
-                } catch (Exception e) {
-                    log.error("Error processing disruptor event", e);
-                }
-            }
-        };
-        disruptor.handleEventsWith(handler);
+        // 每个消费线程一个Handler, 按consumerMode分配事件
+        int threads = Math.max(1, listener.threads());
+        // KEY_SHARDED 在发送时计算一次分片写入事件, 各消费线程不再重复求值分片key
+        ShardSelector shardSelector = threads > 1 && listener.consumerMode() == ConsumerMode.KEY_SHARDED
+                ? new ShardSelector(StringUtils.hasText(listener.shardKey()) ? parser.parseExpression(listener.shardKey()) : null, threads)
+                : null;
+        ListenerInvoker invoker = ListenerInvoker.of(AopUtils.selectInvocableMethod(method, bean.getClass()));
+        boolean batch = isBatchListener(method);
+        IntConsumer batchSizeRecorder = batch ? disruptorTemplate.getBatchSizeRecorder(queueName) : null;
+        ConsumerRecorder consumerRecorder = disruptorTemplate.getConsumerRecorder(queueName);
+        ScheduledExecutorService lingerExecutor = batch && listener.maxLingerMs() > 0 ? createLingerExecutor(queueName) : null;
+        DisruptorListenerHandler[] handlers = new DisruptorListenerHandler[threads];
+        for (int i = 0; i < threads; i++) {
+            handlers[i] = batch
+                    ? new BatchDisruptorListenerHandler(bean, invoker, i, threads, listener.consumerMode(),
+                    consumerRecorder, listener.maxBatchSize(), listener.maxLingerMs(),
+                    lingerExecutor, batchSizeRecorder)
+                    : new DisruptorListenerHandler(bean, invoker, i, threads, listener.consumerMode(), consumerRecorder);
+        }
+        disruptor.handleEventsWith(handlers);
 
         disruptor.start();
-        disruptorTemplate.registerDisruptor(queueName, disruptor);
+        disruptorTemplate.registerDisruptor(queueName, disruptor, shardSelector);
         disruptorTemplate.registerMetrics(queueName, disruptor);
-        log.info("Registered DisruptorListener for queue: {}, threads: {}, virtualThread: {}",
-                queueName, listener.threads(), listener.virtualThread());
+        log.info("Registered DisruptorListener for queue: {}, threads: {}, consumerMode: {}, virtualThread: {}, batch: {}",
+                queueName, threads, listener.consumerMode(), listener.virtualThread(), batch);
+    }
+
+    /**
+     * 方法参数为 List 时批量消费
+     */
+    private boolean isBatchListener(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        return parameterTypes.length == 1 && parameterTypes[0] == List.class;
+    }
+
+    private ScheduledExecutorService createLingerExecutor(String queueName) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "Disruptor-Batch-Linger-" + queueName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 提前提交时取消的超时任务立即移出队列
+        executor.setRemoveOnCancelPolicy(true);
+        lingerExecutors.add(executor);
+        return executor;
+    }
+
+    @Override
+    public void destroy() {
+        lingerExecutors.forEach(ScheduledExecutorService::shutdown);
     }
 }
\ No newline at end of file
@@ -0,0 +1,225 @@
+package io.github.kk01001.disruptor.template;
+
+import com.lmax.disruptor.EventTranslatorOneArg;
+import com.lmax.disruptor.EventTranslatorThreeArg;
+import com.lmax.disruptor.RingBuffer;
+import io.github.kk01001.disruptor.event.DisruptorEvent;
+import lombok.Getter;
+import org.springframework.util.Assert;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.ToIntFunction;
+
+/**
+ * @author kk01001
+ * @date 2026-10-19 00:10:00
+ * @description 队列生产者, 可由调用方缓存以跳过按队列名查找
+ * <p>
+ * send 在RingBuffer满时阻塞等待; trySend 立即返回是否发送成功;
+ * 带超时的 send 在超时内自旋/休眠重试; sendBatch 一次申请连续序号批量发布
+ */
+public class DisruptorProducer<T> {
+
+    /**
+     * 无捕获的静态事件转换器, 发送消息时不分配lambda实例
+     */
+    private static final EventTranslatorOneArg<DisruptorEvent<Object>, Object> TRANSLATOR =
+            (event, sequence, data) -> event.setData(data);
+
+    /**
+     * 启用监控时使用, 额外写入发布时间用于计算发布到消费的延迟
+     */
+    private static final EventTranslatorOneArg<DisruptorEvent<Object>, Object> STAMPING_TRANSLATOR =
+            (event, sequence, data) -> {
+                event.setData(data);
+                event.setPublishNanos(System.nanoTime());
+            };
+
+    /**
+     * 分片发送使用, 写入发布前计算好的分片序号
+     */
+    private static final EventTranslatorThreeArg<DisruptorEvent<Object>, Object, Integer, Boolean> SHARDING_TRANSLATOR =
+            (event, sequence, data, shard, stamp) -> {
+                event.setData(data);
+                event.setShard(shard);
+                if (stamp) {
+                    event.setPublishNanos(System.nanoTime());
+                }
+            };
+
+    /**
+     * 超时发送时自旋次数, 超过后休眠重试
+     */
+    private static final int SPIN_TRIES = 100;
+
+    private static final long PARK_NANOS = 1000L;
+
+    @Getter
+    private final String queueName;
+
+    private final RingBuffer<DisruptorEvent<Object>> ringBuffer;
+
+    private final EventTranslatorOneArg<DisruptorEvent<Object>, Object> translator;
+
+    private final boolean stampPublishTime;
+
+    /**
+     * 分片计算, 发布前对每条消息计算一次, 不分片时为空
+     */
+    private final ToIntFunction<Object> shardSelector;
+
+    /**
+     * RingBuffer已满拒绝记录, 未启用监控时为空
+     */
+    private final Runnable fullRejectionRecorder;
+
+    /**
+     * 等待超时拒绝记录, 未启用监控时为空
+     */
+    private final Runnable timeoutRejectionRecorder;
+
+    public DisruptorProducer(String queueName,
+                             RingBuffer<DisruptorEvent<Object>> ringBuffer,
+                             Runnable fullRejectionRecorder,
+                             Runnable timeoutRejectionRecorder,
+                             boolean stampPublishTime) {
+        this(queueName, ringBuffer, fullRejectionRecorder, timeoutRejectionRecorder, stampPublishTime, null);
+    }
+
+    public DisruptorProducer(String queueName,
+                             RingBuffer<DisruptorEvent<Object>> ringBuffer,
+                             Runnable fullRejectionRecorder,
+                             Runnable timeoutRejectionRecorder,
+                             boolean stampPublishTime,
+                             ToIntFunction<Object> shardSelector) {
+        this.queueName = queueName;
+        this.ringBuffer = ringBuffer;
+        this.translator = stampPublishTime ? STAMPING_TRANSLATOR : TRANSLATOR;
+        this.stampPublishTime = stampPublishTime;
+        this.shardSelector = shardSelector;
+        this.fullRejectionRecorder = fullRejectionRecorder;
+        this.timeoutRejectionRecorder = timeoutRejectionRecorder;
+    }
+
+    /**
+     * 发送消息, RingBuffer已满时阻塞等待
+     *
+     * @param data 消息数据
+     */
+    public void send(T data) {
+        if (shardSelector == null) {
+            ringBuffer.publishEvent(translator, data);
+            return;
+        }
+        ringBuffer.publishEvent(SHARDING_TRANSLATOR, data, shardSelector.applyAsInt(data), stampPublishTime);
+    }
+
+    /**
+     * 尝试发送消息, RingBuffer已满时立即返回
+     *
+     * @param data 消息数据
+     * @return 是否发送成功
+     */
+    public boolean trySend(T data) {
+        if (tryPublish(data, shard(data))) {
+            return true;
+        }
+        record(fullRejectionRecorder);
+        return false;
+    }
+
+    /**
+     * 发送消息, RingBuffer已满时最多等待指定时间
+     *
+     * @param data    消息数据
+     * @param timeout 超时时间
+     * @param unit    时间单位
+     * @return 是否发送成功
+     */
+    public boolean send(T data, long timeout, TimeUnit unit) {
+        int shard = shard(data);
+        if (tryPublish(data, shard)) {
+            return true;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int tries = 0;
+        while (System.nanoTime() - deadline < 0 && !Thread.currentThread().isInterrupted()) {
+            if (tries++ < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+            if (tryPublish(data, shard)) {
+                return true;
+            }
+        }
+        record(timeoutRejectionRecorder);
+        return false;
+    }
+
+    /**
+     * 批量发送消息, 每次申请一段连续序号后统一发布, 超过缓冲区大小时分段发布
+     *
+     * @param data 消息数据
+     */
+    public void sendBatch(Collection<? extends T> data) {
+        Assert.notNull(data, "Data must not be null");
+        // 申请序号前先复制, 集合在发送过程中被修改或迭代异常时不会发布未写入的槽位
+        Object[] messages = data.toArray();
+        int[] shards = null;
+        if (shardSelector != null) {
+            shards = new int[messages.length];
+            for (int i = 0; i < messages.length; i++) {
+                shards[i] = shardSelector.applyAsInt(messages[i]);
+            }
+        }
+        int offset = 0;
+        while (offset < messages.length) {
+            int n = Math.min(messages.length - offset, ringBuffer.getBufferSize());
+            long hi = ringBuffer.next(n);
+            long lo = hi - n + 1;
+            long publishNanos = stampPublishTime ? System.nanoTime() : 0L;
+            try {
+                for (long sequence = lo; sequence <= hi; sequence++) {
+                    DisruptorEvent<Object> event = ringBuffer.get(sequence);
+                    if (shards != null) {
+                        event.setShard(shards[offset]);
+                    }
+                    event.setData(messages[offset++]);
+                    event.setPublishNanos(publishNanos);
+                }
+            } finally {
+                ringBuffer.publish(lo, hi);
+            }
+        }
+    }
+
+    /**
+     * RingBuffer剩余容量
+     */
+    public long remainingCapacity() {
+        return ringBuffer.remainingCapacity();
+    }
+
+    /**
+     * 分片在申请序号前计算, SpEL求值不占用已申请的槽位
+     */
+    private int shard(T data) {
+        return shardSelector == null ? 0 : shardSelector.applyAsInt(data);
+    }
+
+    private boolean tryPublish(T data, int shard) {
+        if (shardSelector == null) {
+            return ringBuffer.tryPublishEvent(translator, data);
+        }
+        return ringBuffer.tryPublishEvent(SHARDING_TRANSLATOR, data, shard, stampPublishTime);
+    }
+
+    private static void record(Runnable recorder) {
+        if (recorder != null) {
+            recorder.run();
+        }
+    }
+}
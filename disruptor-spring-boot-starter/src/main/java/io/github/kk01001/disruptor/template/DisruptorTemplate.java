@@ -1,7 +1,6 @@
 package io.github.kk01001.disruptor.template;
 
 import com.lmax.disruptor.EventHandler;
-import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.WaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
@@ -9,13 +8,18 @@ import io.github.kk01001.disruptor.event.DisruptorEvent;
 import io.github.kk01001.disruptor.factory.DisruptorEventFactory;
 import io.github.kk01001.disruptor.handler.MessageHandler;
 import io.github.kk01001.disruptor.handler.MessageHandlerAdapter;
+import io.github.kk01001.disruptor.monitor.ConsumerRecorder;
 import io.github.kk01001.disruptor.monitor.DisruptorMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.Assert;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
 
 /**
  * @author kk01001
@@ -27,6 +31,8 @@ public class DisruptorTemplate {
 
     private final Map<String, Disruptor<DisruptorEvent<Object>>> disruptorMap = new ConcurrentHashMap<>();
 
+    private final Map<String, DisruptorProducer<Object>> producerMap = new ConcurrentHashMap<>();
+
     private final DisruptorMetrics disruptorMetrics;
 
     public DisruptorTemplate(DisruptorMetrics disruptorMetrics) {
@@ -40,24 +46,79 @@ public class DisruptorTemplate {
      * @param data      消息数据
      */
     public <T> void send(String queueName, T data) {
+        if (log.isDebugEnabled()) {
+            log.debug("Sending message to queue {}: {}", queueName, data);
+        }
+        getProducer(queueName).send(data);
+    }
+
+    /**
+     * 发送消息到指定队列, RingBuffer已满时最多等待指定时间
+     *
+     * @param queueName 队列名称
+     * @param data      消息数据
+     * @param timeout   超时时间
+     * @param unit      时间单位
+     * @return 是否发送成功
+     */
+    public <T> boolean send(String queueName, T data, long timeout, TimeUnit unit) {
+        return getProducer(queueName).send(data, timeout, unit);
+    }
+
+    /**
+     * 尝试发送消息到指定队列, RingBuffer已满时立即返回
+     *
+     * @param queueName 队列名称
+     * @param data      消息数据
+     * @return 是否发送成功
+     */
+    public <T> boolean trySend(String queueName, T data) {
+        return getProducer(queueName).trySend(data);
+    }
+
+    /**
+     * 批量发送消息到指定队列, 一次申请连续序号后统一发布
+     *
+     * @param queueName 队列名称
+     * @param data      消息数据
+     */
+    public <T> void sendBatch(String queueName, Collection<? extends T> data) {
+        getProducer(queueName).sendBatch(data);
+    }
+
+    /**
+     * 获取队列生产者, 调用方可缓存以跳过每次发送时的队列查找
+     *
+     * @param queueName 队列名称
+     * @param <T>       消息类型
+     * @return 队列生产者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> DisruptorProducer<T> getProducer(String queueName) {
         Assert.hasText(queueName, "Queue name must not be empty");
-        Disruptor<DisruptorEvent<Object>> disruptor = disruptorMap.get(queueName);
-        Assert.notNull(disruptor, "Queue " + queueName + " not found");
-
-        // 获取 RingBuffer，避免多次调用
-        final RingBuffer<DisruptorEvent<Object>> ringBuffer = disruptor.getRingBuffer();
-        // 使用 Disruptor 提供的发布事件接口，更安全的发布方式
-        ringBuffer.publishEvent((event, sequence, eventData) -> {
-            event.setData(eventData);
-            log.debug("Sending message to queue {}: {}", queueName, eventData);
-        }, data);
+        DisruptorProducer<Object> producer = producerMap.get(queueName);
+        Assert.notNull(producer, "Queue " + queueName + " not found");
+        return (DisruptorProducer<T>) producer;
     }
 
     /**
      * 注册Disruptor实例
      */
     public void registerDisruptor(String queueName, Disruptor<DisruptorEvent<Object>> disruptor) {
+        registerDisruptor(queueName, disruptor, null);
+    }
+
+    /**
+     * 注册Disruptor实例
+     *
+     * @param shardSelector 分片计算, 发送时对每条消息计算一次并写入事件, 不分片时为空
+     */
+    public void registerDisruptor(String queueName, Disruptor<DisruptorEvent<Object>> disruptor,
+                                  ToIntFunction<Object> shardSelector) {
         disruptorMap.put(queueName, disruptor);
+        producerMap.put(queueName, new DisruptorProducer<>(queueName, disruptor.getRingBuffer(),
+                getRejectionRecorder(queueName, "full"), getRejectionRecorder(queueName, "timeout"),
+                disruptorMetrics != null, shardSelector));
     }
 
     /**
@@ -66,6 +127,7 @@ public class DisruptorTemplate {
      * @param queueName 队列名称
      */
     public void shutdown(String queueName) {
+        producerMap.remove(queueName);
         Disruptor<DisruptorEvent<Object>> disruptor = disruptorMap.remove(queueName);
         if (disruptor != null) {
             disruptor.shutdown();
@@ -78,6 +140,7 @@ public class DisruptorTemplate {
     public void shutdownAll() {
         disruptorMap.forEach((name, disruptor) -> disruptor.shutdown());
         disruptorMap.clear();
+        producerMap.clear();
     }
 
     /**
@@ -92,6 +155,28 @@ public class DisruptorTemplate {
         }
     }
 
+    /**
+     * 获取批量消费大小记录, 未启用监控时返回null
+     *
+     * @param queueName 队列名称
+     */
+    public IntConsumer getBatchSizeRecorder(String queueName) {
+        return disruptorMetrics != null ? disruptorMetrics.batchSizeRecorder(queueName) : null;
+    }
+
+    /**
+     * 获取消费端指标记录, 未启用监控时返回null
+     *
+     * @param queueName 队列名称
+     */
+    public ConsumerRecorder getConsumerRecorder(String queueName) {
+        return disruptorMetrics != null ? disruptorMetrics.consumerRecorder(queueName) : null;
+    }
+
+    private Runnable getRejectionRecorder(String queueName, String reason) {
+        return disruptorMetrics != null ? disruptorMetrics.rejectionRecorder(queueName, reason) : null;
+    }
+
     /**
      * 创建并注册一个新的Disruptor队列
      *
@@ -120,7 +205,7 @@ public class DisruptorTemplate {
         Assert.notNull(handler, "Handler must not be null");
 
         // 将MessageHandler适配为EventHandler
-        EventHandler<DisruptorEvent<T>> eventHandler = new MessageHandlerAdapter<>(handler);
+        EventHandler<DisruptorEvent<T>> eventHandler = new MessageHandlerAdapter<>(handler, getConsumerRecorder(queueName));
 
         DisruptorEventFactory<T> factory = new DisruptorEventFactory<>();
         Disruptor<DisruptorEvent<T>> disruptor = new Disruptor<>(
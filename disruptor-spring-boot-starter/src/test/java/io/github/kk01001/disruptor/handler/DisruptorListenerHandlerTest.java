@@ -0,0 +1,119 @@
+package io.github.kk01001.disruptor.handler;
+
+import io.github.kk01001.disruptor.annotation.ConsumerMode;
+import io.github.kk01001.disruptor.event.DisruptorEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author kk01001
+ * @date 2026-10-19 12:20:00
+ * @description 多消费线程的事件分配与槽位清理
+ */
+class DisruptorListenerHandlerTest {
+
+    private static final int THREADS = 3;
+
+    @Test
+    void workerPoolHandlesEachSequenceOnce() {
+        List<List<Object>> received = received();
+        DisruptorListenerHandler[] handlers = handlers(ConsumerMode.WORKER_POOL, received);
+
+        for (long sequence = 0; sequence < 9; sequence++) {
+            DisruptorEvent<Object> event = event(sequence, 0);
+            for (DisruptorListenerHandler handler : handlers) {
+                handler.onEvent(event, sequence, true);
+            }
+            assertThat(event.getData()).isNull();
+        }
+
+        assertThat(received.get(0)).containsExactly(0L, 3L, 6L);
+        assertThat(received.get(1)).containsExactly(1L, 4L, 7L);
+        assertThat(received.get(2)).containsExactly(2L, 5L, 8L);
+    }
+
+    @Test
+    void keyShardedUsesShardWrittenAtPublish() {
+        List<List<Object>> received = received();
+        DisruptorListenerHandler[] handlers = handlers(ConsumerMode.KEY_SHARDED, received);
+        ShardSelector selector = new ShardSelector(new SpelExpressionParser().parseExpression("orderId"), THREADS);
+
+        List<Order> orders = List.of(new Order("A", 1), new Order("B", 1), new Order("A", 2), new Order("C", 1), new Order("A", 3));
+        long sequence = 0;
+        for (Order order : orders) {
+            DisruptorEvent<Object> event = new DisruptorEvent<>();
+            event.setData(order);
+            event.setShard(selector.applyAsInt(order));
+            for (DisruptorListenerHandler handler : handlers) {
+                handler.onEvent(event, sequence, true);
+            }
+            sequence++;
+            // 非所属处理器只读取分片序号, 所属处理器消费后即可清空槽位
+            assertThat(event.getData()).isNull();
+        }
+
+        List<Object> shardOfA = received.get(selector.applyAsInt(new Order("A", 0)));
+        assertThat(shardOfA).filteredOn(o -> "A".equals(((Order) o).getOrderId()))
+                .extracting(o -> ((Order) o).getVersion())
+                .containsExactly(1, 2, 3);
+        assertThat(received.stream().mapToInt(List::size).sum()).isEqualTo(orders.size());
+    }
+
+    @Test
+    void shardSelectorFallsBackToHashCodeWhenExpressionFails() {
+        ShardSelector selector = new ShardSelector(new SpelExpressionParser().parseExpression("missing"), THREADS);
+
+        assertThat(selector.applyAsInt("message")).isEqualTo(Math.floorMod("message".hashCode(), THREADS));
+        assertThat(selector.applyAsInt(null)).isZero();
+    }
+
+    private static List<List<Object>> received() {
+        List<List<Object>> received = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            received.add(new ArrayList<>());
+        }
+        return received;
+    }
+
+    private static DisruptorListenerHandler[] handlers(ConsumerMode consumerMode, List<List<Object>> received) {
+        DisruptorListenerHandler[] handlers = new DisruptorListenerHandler[THREADS];
+        for (int i = 0; i < THREADS; i++) {
+            List<Object> target = received.get(i);
+            handlers[i] = new DisruptorListenerHandler(new Object(), (bean, arg) -> target.add(arg), i, THREADS,
+                    consumerMode, null);
+        }
+        return handlers;
+    }
+
+    private static DisruptorEvent<Object> event(Object data, int shard) {
+        DisruptorEvent<Object> event = new DisruptorEvent<>();
+        event.setData(data);
+        event.setShard(shard);
+        return event;
+    }
+
+    public static class Order {
+
+        private final String orderId;
+
+        private final int version;
+
+        public Order(String orderId, int version) {
+            this.orderId = orderId;
+            this.version = version;
+        }
+
+        public String getOrderId() {
+            return orderId;
+        }
+
+        public int getVersion() {
+            return version;
+        }
+    }
+}
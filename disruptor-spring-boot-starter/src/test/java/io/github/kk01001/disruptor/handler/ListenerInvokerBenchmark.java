@@ -0,0 +1,76 @@
+package io.github.kk01001.disruptor.handler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author kk01001
+ * @date 2026-10-19 12:40:00
+ * @description 监听方法调用基准: 生成的调用器与 Method.invoke 对比
+ * <p>
+ * 运行 main 方法或 java -cp target/test-classes:... org.openjdk.jmh.Main ListenerInvokerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListenerInvokerBenchmark {
+
+    private final Listener listener = new Listener();
+
+    private final Object message = "message";
+
+    private Method method;
+
+    private ListenerInvoker invoker;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        method = Listener.class.getDeclaredMethod("onMessage", String.class);
+        method.setAccessible(true);
+        invoker = ListenerInvoker.of(method);
+    }
+
+    @Benchmark
+    public long generated() throws Throwable {
+        invoker.invoke(listener, message);
+        return listener.count;
+    }
+
+    @Benchmark
+    public long reflection() throws Exception {
+        method.invoke(listener, message);
+        return listener.count;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ListenerInvokerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    public static class Listener {
+
+        private long count;
+
+        public void onMessage(String message) {
+            count += message.length();
+        }
+    }
+}
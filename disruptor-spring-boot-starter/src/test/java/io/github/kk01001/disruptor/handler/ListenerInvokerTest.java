@@ -0,0 +1,105 @@
+package io.github.kk01001.disruptor.handler;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author kk01001
+ * @date 2026-10-19 12:10:00
+ * @description 生成的监听方法调用器与反射调用结果一致
+ */
+class ListenerInvokerTest {
+
+    @Test
+    void invokesPublicMethodLikeReflection() throws Throwable {
+        Method method = Listener.class.getDeclaredMethod("onMessage", String.class);
+        Listener generated = new Listener();
+        Listener reflected = new Listener();
+
+        ListenerInvoker.of(method).invoke(generated, "hello");
+        method.invoke(reflected, "hello");
+
+        assertThat(generated.received).containsExactly("hello").isEqualTo(reflected.received);
+    }
+
+    @Test
+    void invokesPrivateMethod() throws Throwable {
+        Listener listener = new Listener();
+
+        ListenerInvoker.of(Listener.class.getDeclaredMethod("onPrivate", String.class)).invoke(listener, "secret");
+
+        assertThat(listener.received).containsExactly("private:secret");
+    }
+
+    @Test
+    void unboxesPrimitiveParameter() throws Throwable {
+        Listener listener = new Listener();
+
+        ListenerInvoker.of(Listener.class.getDeclaredMethod("onCount", int.class)).invoke(listener, 42);
+
+        assertThat(listener.received).containsExactly("count:42");
+    }
+
+    @Test
+    void invokesStaticMethodIgnoringInstance() throws Throwable {
+        StaticListener.received.clear();
+
+        ListenerInvoker.of(StaticListener.class.getDeclaredMethod("onMessage", String.class)).invoke(null, "static");
+
+        assertThat(StaticListener.received).containsExactly("static");
+    }
+
+    @Test
+    void propagatesListenerExceptionUnwrapped() throws Exception {
+        ListenerInvoker invoker = ListenerInvoker.of(Listener.class.getDeclaredMethod("onFailure", String.class));
+
+        // 反射调用会包装为 InvocationTargetException, 生成的调用器直接抛出原异常
+        assertThatThrownBy(() -> invoker.invoke(new Listener(), "boom"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+    }
+
+    @Test
+    void rejectsMismatchedArgumentType() throws Exception {
+        ListenerInvoker invoker = ListenerInvoker.of(Listener.class.getDeclaredMethod("onMessage", String.class));
+
+        assertThatThrownBy(() -> invoker.invoke(new Listener(), 1L)).isInstanceOf(ClassCastException.class);
+    }
+
+    @SuppressWarnings("unused")
+    public static class Listener {
+
+        private final List<String> received = new ArrayList<>();
+
+        public void onMessage(String message) {
+            received.add(message);
+        }
+
+        private void onPrivate(String message) {
+            received.add("private:" + message);
+        }
+
+        public void onCount(int count) {
+            received.add("count:" + count);
+        }
+
+        public void onFailure(String message) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    public static class StaticListener {
+
+        private static final List<String> received = new ArrayList<>();
+
+        public static void onMessage(String message) {
+            received.add(message);
+        }
+    }
+}
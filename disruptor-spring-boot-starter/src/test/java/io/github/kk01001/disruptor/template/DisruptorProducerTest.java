@@ -0,0 +1,72 @@
+package io.github.kk01001.disruptor.template;
+
+import com.lmax.disruptor.RingBuffer;
+import io.github.kk01001.disruptor.event.DisruptorEvent;
+import io.github.kk01001.disruptor.factory.DisruptorEventFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author kk01001
+ * @date 2026-10-19 12:30:00
+ * @description 发送时写入分片序号, 每条消息只计算一次
+ */
+class DisruptorProducerTest {
+
+    private final RingBuffer<DisruptorEvent<Object>> ringBuffer =
+            RingBuffer.createMultiProducer(new DisruptorEventFactory<>(), 16);
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    private final ToIntFunction<Object> shardSelector = data -> {
+        evaluations.incrementAndGet();
+        return ((String) data).length();
+    };
+
+    @Test
+    void sendWritesShardOnce() {
+        DisruptorProducer<String> producer = new DisruptorProducer<>("queue", ringBuffer, null, null, false, shardSelector);
+
+        producer.send("a");
+        assertThat(producer.trySend("bb")).isTrue();
+        assertThat(producer.send("ccc", 10, TimeUnit.MILLISECONDS)).isTrue();
+
+        assertThat(shardAt(0)).isEqualTo(1);
+        assertThat(shardAt(1)).isEqualTo(2);
+        assertThat(shardAt(2)).isEqualTo(3);
+        assertThat(evaluations.get()).isEqualTo(3);
+    }
+
+    @Test
+    void sendBatchWritesShardPerMessage() {
+        DisruptorProducer<String> producer = new DisruptorProducer<>("queue", ringBuffer, null, null, true, shardSelector);
+
+        producer.sendBatch(List.of("a", "bb", "ccc"));
+
+        assertThat(ringBuffer.get(1).getData()).isEqualTo("bb");
+        assertThat(shardAt(1)).isEqualTo(2);
+        assertThat(shardAt(2)).isEqualTo(3);
+        assertThat(ringBuffer.get(2).getPublishNanos()).isPositive();
+        assertThat(evaluations.get()).isEqualTo(3);
+    }
+
+    @Test
+    void sendWithoutSelectorLeavesShardUnset() {
+        DisruptorProducer<String> producer = new DisruptorProducer<>("queue", ringBuffer, null, null, false);
+
+        producer.send("a");
+
+        assertThat(ringBuffer.get(0).getData()).isEqualTo("a");
+        assertThat(shardAt(0)).isZero();
+    }
+
+    private int shardAt(long sequence) {
+        return ringBuffer.get(sequence).getShard();
+    }
+}
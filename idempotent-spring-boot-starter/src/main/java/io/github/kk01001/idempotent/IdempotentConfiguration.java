@@ -24,8 +24,8 @@ public class IdempotentConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public IdempotentKeyGenerator idempotentKeyGenerator() {
-        return new IdempotentKeyGenerator();
+    public IdempotentKeyGenerator idempotentKeyGenerator(IdempotentProperties properties) {
+        return new IdempotentKeyGenerator(properties.getKeyHashAlgorithm());
     }
 
     @Bean
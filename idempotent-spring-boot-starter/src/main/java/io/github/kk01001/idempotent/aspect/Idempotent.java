@@ -1,5 +1,7 @@
 package io.github.kk01001.idempotent.aspect;
 
+import io.github.kk01001.idempotent.enums.IdempotentMode;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -30,4 +32,11 @@ public @interface Idempotent {
      */
     long expire() default 10;
 
+    /**
+     * 幂等模式
+     * REJECT: 重复请求抛出异常
+     * RESULT: 缓存首次请求结果, 重复请求返回相同结果
+     */
+    IdempotentMode mode() default IdempotentMode.REJECT;
+
 }
@@ -2,6 +2,7 @@ package io.github.kk01001.idempotent.aspect;
 
 import io.github.kk01001.idempotent.core.IdempotentKeyGenerator;
 import io.github.kk01001.idempotent.core.RedisIdempotentExecutor;
+import io.github.kk01001.idempotent.enums.IdempotentMode;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -49,10 +50,18 @@ public class IdempotentAspect {
         // 生成幂等key并执行幂等性检查
         String key = keyGenerator.generateKey(idempotent.key(), idempotent.keyPrefix(), 
                                            joinPoint, beanFactoryResolver);
+        if (idempotent.mode() == IdempotentMode.RESULT) {
+            return executor.executeWithResult(key, idempotent.expire(), joinPoint::proceed);
+        }
         executor.execute(key, idempotent.expire());
 
-        // 执行目标方法
-        return joinPoint.proceed();
+        // 执行目标方法, 失败时释放幂等key允许重试
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            executor.release(key);
+            throw e;
+        }
     }
 
     private boolean needCheck(ProceedingJoinPoint joinPoint) {
@@ -1,5 +1,6 @@
 package io.github.kk01001.idempotent.config;
 
+import io.github.kk01001.idempotent.enums.KeyHashAlgorithm;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -29,6 +30,16 @@ public class IdempotentProperties {
      */
     private Duration defaultExpireSeconds = Duration.ofSeconds(10);
 
+    /**
+     * 未指定key表达式时, 参数哈希算法
+     */
+    private KeyHashAlgorithm keyHashAlgorithm = KeyHashAlgorithm.MD5;
+
+    /**
+     * RESULT模式下, 本节点并发的重复请求等待首次请求完成的最长时间
+     */
+    private Duration resultWaitTimeout = Duration.ofSeconds(10);
+
     /**
      * 是否打印debug日志
      */
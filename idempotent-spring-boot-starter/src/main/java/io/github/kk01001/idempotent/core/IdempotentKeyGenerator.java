@@ -2,15 +2,29 @@ package io.github.kk01001.idempotent.core;
 
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.crypto.SecureUtil;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.github.kk01001.expression.MethodExpressionEvaluator;
+import io.github.kk01001.idempotent.enums.KeyHashAlgorithm;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.CodeSignature;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.Expression;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
-import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * @author kk01001
@@ -20,7 +34,33 @@ import org.springframework.util.Assert;
 @Slf4j
 public class IdempotentKeyGenerator {
 
-    private final SpelExpressionParser parser = new SpelExpressionParser();
+    /**
+     * 不参与序列化的参数类型, 只计入类名
+     * 序列化时会调用 getter 产生副作用, 如创建session, 读取请求体, 提交响应
+     */
+    private static final List<Class<?>> IGNORED_TYPES = resolveIgnoredTypes(
+            "jakarta.servlet.ServletRequest",
+            "jakarta.servlet.ServletResponse",
+            "jakarta.servlet.http.HttpSession",
+            "org.springframework.web.multipart.MultipartFile",
+            "org.springframework.validation.Errors");
+
+    private final MethodExpressionEvaluator evaluator = new MethodExpressionEvaluator();
+
+    private final KeyHashAlgorithm keyHashAlgorithm;
+
+    /**
+     * 规范化序列化: 属性和map key排序, 保证相同参数生成相同哈希
+     */
+    private volatile ObjectMapper canonicalMapper;
+
+    public IdempotentKeyGenerator() {
+        this(KeyHashAlgorithm.MD5);
+    }
+
+    public IdempotentKeyGenerator(KeyHashAlgorithm keyHashAlgorithm) {
+        this.keyHashAlgorithm = Objects.requireNonNullElse(keyHashAlgorithm, KeyHashAlgorithm.MD5);
+    }
 
     /**
      * 生成幂等key
@@ -31,14 +71,26 @@ public class IdempotentKeyGenerator {
             return keyPrefix + hashParams(joinPoint);
         }
 
-        EvaluationContext context = getEvaluationContext(joinPoint, beanFactoryResolver);
-        Expression expression = parser.parseExpression(keyExpression);
-        return keyPrefix + SecureUtil.md5(expression.getValue(context, String.class));
+        EvaluationContext context = evaluator.createEvaluationContext(joinPoint, beanFactoryResolver);
+        String key = evaluator.getValue(keyExpression, evaluator.getMethodKey(joinPoint), context, String.class);
+        return keyPrefix + hashKey(key);
+    }
+
+    private String hashKey(String key) {
+        if (keyHashAlgorithm == KeyHashAlgorithm.MURMUR3_128) {
+            return Hashing.murmur3_128().hashString(StrUtil.nullToEmpty(key), StandardCharsets.UTF_8).toString();
+        }
+        return SecureUtil.md5(key);
     }
 
     private String hashParams(ProceedingJoinPoint joinPoint) {
-        Object[] args = joinPoint.getArgs();
-        String[] paramNames = ((CodeSignature) joinPoint.getSignature()).getParameterNames();
+        return hashParams(((CodeSignature) joinPoint.getSignature()).getParameterNames(), joinPoint.getArgs());
+    }
+
+    String hashParams(String[] paramNames, Object[] args) {
+        if (keyHashAlgorithm == KeyHashAlgorithm.MURMUR3_128) {
+            return streamHashParams(paramNames, args);
+        }
         StringBuilder builder = new StringBuilder();
         for (int i = 0; i < paramNames.length; i++) {
             builder.append(paramNames[i]).append(args[i]);
@@ -46,18 +98,74 @@ public class IdempotentKeyGenerator {
         return SecureUtil.md5(builder.toString());
     }
 
-    private EvaluationContext getEvaluationContext(ProceedingJoinPoint joinPoint, 
-                                                 BeanFactoryResolver beanFactoryResolver) {
-        StandardEvaluationContext context = new StandardEvaluationContext();
-        Object[] args = joinPoint.getArgs();
-        String[] paramNames = ((CodeSignature) joinPoint.getSignature()).getParameterNames();
+    /**
+     * 参数逐个序列化为字节后写入哈希, 不拼接完整字符串
+     * 先序列化到缓冲区, 序列化失败时不会把部分输出计入哈希
+     */
+    private String streamHashParams(String[] paramNames, Object[] args) {
+        ObjectMapper mapper = getCanonicalMapper();
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (int i = 0; i < paramNames.length; i++) {
+            hasher.putString(paramNames[i], StandardCharsets.UTF_8);
+            // 分隔符, 避免不同参数边界产生相同字节序列
+            hasher.putByte((byte) 0);
+            Object arg = args[i];
+            if (Objects.isNull(arg)) {
+                hasher.putByte((byte) 0);
+                continue;
+            }
+            if (isIgnored(arg)) {
+                hasher.putString(arg.getClass().getName(), StandardCharsets.UTF_8);
+            } else {
+                try {
+                    hasher.putBytes(mapper.writeValueAsBytes(arg));
+                } catch (Exception e) {
+                    // 无法序列化的参数只计入类名, toString 可能包含对象地址, 每次请求都不同
+                    log.debug("idempotent key param serialize failed, use type name: {}", arg.getClass().getName(), e);
+                    hasher.putString(arg.getClass().getName(), StandardCharsets.UTF_8);
+                }
+            }
+            hasher.putByte((byte) 0);
+        }
+        return hasher.hash().toString();
+    }
 
-        Assert.notNull(paramNames, "paramNames is null, compiler code, please add -parameters");
+    private static boolean isIgnored(Object arg) {
+        if (arg instanceof InputStream || arg instanceof OutputStream
+                || arg instanceof Reader || arg instanceof Writer) {
+            return true;
+        }
+        for (Class<?> type : IGNORED_TYPES) {
+            if (type.isInstance(arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        for (int i = 0; i < paramNames.length; i++) {
-            context.setVariable(paramNames[i], args[i]);
+    private static List<Class<?>> resolveIgnoredTypes(String... classNames) {
+        ClassLoader classLoader = IdempotentKeyGenerator.class.getClassLoader();
+        List<Class<?>> types = new ArrayList<>(classNames.length);
+        for (String className : classNames) {
+            if (ClassUtils.isPresent(className, classLoader)) {
+                types.add(ClassUtils.resolveClassName(className, classLoader));
+            }
+        }
+        return List.copyOf(types);
+    }
+
+    private ObjectMapper getCanonicalMapper() {
+        ObjectMapper mapper = canonicalMapper;
+        if (Objects.isNull(mapper)) {
+            mapper = JsonMapper.builder()
+                    .findAndAddModules()
+                    .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                    .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+            canonicalMapper = mapper;
         }
-        context.setBeanResolver(beanFactoryResolver);
-        return context;
+        return mapper;
     }
-} 
\ No newline at end of file
+}
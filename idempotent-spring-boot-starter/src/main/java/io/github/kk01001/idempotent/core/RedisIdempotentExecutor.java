@@ -2,12 +2,20 @@ package io.github.kk01001.idempotent.core;
 
 import io.github.kk01001.idempotent.config.IdempotentProperties;
 import io.github.kk01001.idempotent.exception.IdempotentException;
+import io.github.kk01001.idempotent.model.IdempotentRecord;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * @author kk01001
@@ -21,6 +29,11 @@ public class RedisIdempotentExecutor {
     private final RedissonClient redissonClient;
     private final IdempotentProperties properties;
 
+    /**
+     * 本节点执行中的请求 key -> 执行结果
+     */
+    private final Map<String, CompletableFuture<Object>> inFlightMap = new ConcurrentHashMap<>();
+
     /**
      * 执行幂等性检查
      *
@@ -33,11 +46,108 @@ public class RedisIdempotentExecutor {
         }
 
         RBucket<Object> bucket = redissonClient.getBucket(key);
-        Duration duration = expireSeconds > 0 ? Duration.ofSeconds(expireSeconds) : properties.getDefaultExpireSeconds();
-        boolean success = bucket.setIfAbsent(System.currentTimeMillis(), duration);
+        boolean success = bucket.setIfAbsent(System.currentTimeMillis(), getDuration(expireSeconds));
 
         if (!success) {
             throw new IdempotentException("重复请求");
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 执行并缓存结果
+     * 首次请求执行后将结果保存到幂等key, 重复请求返回缓存的结果;
+     * 本节点并发的重复请求等待首次请求完成; 执行失败时删除幂等key, 允许重试
+     *
+     * @param key           幂等key
+     * @param expireSeconds 过期时间(秒)
+     * @param invocation    目标方法
+     * @return 执行结果
+     */
+    public Object executeWithResult(String key, long expireSeconds, Invocation invocation) throws Throwable {
+        if (Boolean.TRUE.equals(properties.getDebugLog())) {
+            log.debug("幂等性检查(结果缓存) - key: {}, expireSeconds: {}", key, expireSeconds);
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightMap.putIfAbsent(key, future);
+        if (Objects.nonNull(inFlight)) {
+            return await(key, inFlight);
+        }
+
+        try {
+            Object result = doExecuteWithResult(key, getDuration(expireSeconds), invocation);
+            future.complete(result);
+            return result;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightMap.remove(key, future);
+        }
+    }
+
+    /**
+     * 删除幂等key
+     */
+    public void release(String key) {
+        redissonClient.getBucket(key).delete();
+    }
+
+    private Object doExecuteWithResult(String key, Duration duration, Invocation invocation) throws Throwable {
+        RBucket<IdempotentRecord> bucket = redissonClient.getBucket(key);
+        if (!bucket.setIfAbsent(IdempotentRecord.processing(), duration)) {
+            IdempotentRecord record = bucket.get();
+            if (Objects.nonNull(record) && Boolean.TRUE.equals(record.getCompleted())) {
+                return record.getResult();
+            }
+            // 其他节点正在处理
+            throw new IdempotentException("请求处理中");
+        }
+
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            bucket.delete();
+            throw e;
+        }
+
+        try {
+            bucket.set(IdempotentRecord.completed(result), duration);
+        } catch (Exception e) {
+            // 结果无法序列化时不缓存, 删除key避免重复请求一直处于处理中
+            log.warn("幂等结果缓存失败 - key: {}", key, e);
+            bucket.delete();
+        }
+        return result;
+    }
+
+    private Object await(String key, CompletableFuture<Object> inFlight) throws Throwable {
+        if (Boolean.TRUE.equals(properties.getDebugLog())) {
+            log.debug("幂等性检查 - 等待本节点执行中的请求, key: {}", key);
+        }
+        try {
+            return inFlight.get(properties.getResultWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            throw new IdempotentException("请求处理中");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotentException("请求处理中");
+        }
+    }
+
+    private Duration getDuration(long expireSeconds) {
+        return expireSeconds > 0 ? Duration.ofSeconds(expireSeconds) : properties.getDefaultExpireSeconds();
+    }
+
+    /**
+     * 目标方法
+     */
+    @FunctionalInterface
+    public interface Invocation {
+
+        Object proceed() throws Throwable;
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.kk01001.idempotent.enums;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 21:30:00
+ * @description 幂等模式
+ */
+public enum IdempotentMode {
+
+    /**
+     * 重复请求直接拒绝, 抛出 IdempotentException
+     */
+    REJECT,
+
+    /**
+     * 缓存首次请求的结果, 重复请求返回相同结果
+     * 本节点并发的重复请求等待首次请求执行完成, 不再访问Redis
+     */
+    RESULT
+}
@@ -0,0 +1,20 @@
+package io.github.kk01001.idempotent.enums;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 21:50:00
+ * @description 默认幂等key哈希算法
+ */
+public enum KeyHashAlgorithm {
+
+    /**
+     * 拼接参数名和参数toString后计算md5
+     */
+    MD5,
+
+    /**
+     * 参数按Jackson规范化序列化后流式写入Murmur3 128位哈希, 不拼接完整字符串
+     * 需要引入guava
+     */
+    MURMUR3_128
+}
@@ -0,0 +1,36 @@
+package io.github.kk01001.idempotent.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 21:30:00
+ * @description 幂等记录, RESULT模式下保存在幂等key中
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotentRecord implements Serializable {
+
+    /**
+     * 是否执行完成
+     */
+    private Boolean completed;
+
+    /**
+     * 执行结果
+     */
+    private Object result;
+
+    public static IdempotentRecord processing() {
+        return new IdempotentRecord(false, null);
+    }
+
+    public static IdempotentRecord completed(Object result) {
+        return new IdempotentRecord(true, result);
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.kk01001.idempotent.core;
+
+import io.github.kk01001.idempotent.enums.KeyHashAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author kk01001
+ * @date 2026-10-19 10:10:00
+ * @description 幂等key参数哈希基准: MD5(toString拼接) 与 MURMUR3_128(规范化序列化) 在大DTO下的对比
+ * <p>
+ * 运行 main 方法或 java -cp target/test-classes:... org.openjdk.jmh.Main IdempotentKeyGeneratorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdempotentKeyGeneratorBenchmark {
+
+    /**
+     * DTO中明细行数
+     */
+    @Param({"10", "1000"})
+    private int items;
+
+    private final IdempotentKeyGenerator md5Generator = new IdempotentKeyGenerator(KeyHashAlgorithm.MD5);
+
+    private final IdempotentKeyGenerator murmurGenerator = new IdempotentKeyGenerator(KeyHashAlgorithm.MURMUR3_128);
+
+    private String[] paramNames;
+
+    private Object[] args;
+
+    @Setup
+    public void setup() {
+        List<OrderItem> orderItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            orderItems.add(new OrderItem("SKU-" + i, "商品描述-" + i + "-".repeat(32), i, i * 1.5));
+        }
+        paramNames = new String[]{"userId", "order"};
+        args = new Object[]{10086L, new Order("ORDER-20261019-0001", "备注".repeat(64), orderItems)};
+    }
+
+    @Benchmark
+    public String md5() {
+        return md5Generator.hashParams(paramNames, args);
+    }
+
+    @Benchmark
+    public String murmur3() {
+        return murmurGenerator.hashParams(paramNames, args);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IdempotentKeyGeneratorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    public record Order(String orderNo, String remark, List<OrderItem> items) {
+    }
+
+    public record OrderItem(String sku, String description, int quantity, double price) {
+    }
+}
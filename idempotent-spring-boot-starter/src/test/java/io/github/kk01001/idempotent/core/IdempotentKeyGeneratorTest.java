@@ -0,0 +1,93 @@
+package io.github.kk01001.idempotent.core;
+
+import io.github.kk01001.idempotent.enums.KeyHashAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author kk01001
+ * @date 2026-10-19 10:00:00
+ * @description 幂等key参数哈希
+ */
+class IdempotentKeyGeneratorTest {
+
+    private final IdempotentKeyGenerator generator = new IdempotentKeyGenerator(KeyHashAlgorithm.MURMUR3_128);
+
+    @Test
+    void sameArgumentsProduceSameHash() {
+        String first = generator.hashParams(new String[]{"order"}, new Object[]{new Order("A001", 3)});
+        String second = generator.hashParams(new String[]{"order"}, new Object[]{new Order("A001", 3)});
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void differentArgumentsProduceDifferentHash() {
+        String first = generator.hashParams(new String[]{"order"}, new Object[]{new Order("A001", 3)});
+        String second = generator.hashParams(new String[]{"order"}, new Object[]{new Order("A001", 4)});
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    void mapOrderDoesNotAffectHash() {
+        Map<String, Object> linked = new LinkedHashMap<>();
+        linked.put("b", 2);
+        linked.put("a", 1);
+        Map<String, Object> sorted = new TreeMap<>(linked);
+        assertThat(generator.hashParams(new String[]{"map"}, new Object[]{linked}))
+                .isEqualTo(generator.hashParams(new String[]{"map"}, new Object[]{sorted}));
+    }
+
+    @Test
+    void servletArgumentsAreNotSerialized() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent("body".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String[] names = {"request", "response", "order"};
+
+        String first = generator.hashParams(names, new Object[]{request, response, new Order("A001", 3)});
+        String second = generator.hashParams(names,
+                new Object[]{new MockHttpServletRequest(), new MockHttpServletResponse(), new Order("A001", 3)});
+
+        assertThat(first).isEqualTo(second);
+        // 没有创建session, 没有提交响应
+        assertThat(request.getSession(false)).isNull();
+        assertThat(response.isCommitted()).isFalse();
+    }
+
+    @Test
+    void streamAndMultipartArgumentsHashByTypeOnly() {
+        String[] names = {"file", "stream"};
+        String first = generator.hashParams(names, new Object[]{
+                new MockMultipartFile("file", new byte[]{1}), new ByteArrayInputStream(new byte[]{1})});
+        String second = generator.hashParams(names, new Object[]{
+                new MockMultipartFile("file", new byte[]{2}), new ByteArrayInputStream(new byte[]{2})});
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void unserializableArgumentIsStableAcrossInstances() {
+        String first = generator.hashParams(new String[]{"arg"}, new Object[]{new Unserializable()});
+        String second = generator.hashParams(new String[]{"arg"}, new Object[]{new Unserializable()});
+        assertThat(first).isEqualTo(second);
+    }
+
+    record Order(String orderNo, int quantity) {
+    }
+
+    static class Unserializable {
+
+        public Object getSelf() {
+            return this;
+        }
+    }
+}
@@ -1,8 +1,20 @@
 package io.github.kk01001.cache.config;
 
+import io.github.kk01001.cache.endpoint.LocalCacheEndpoint;
 import io.github.kk01001.cache.factory.LocalCaffeineCacheFactory;
+import io.github.kk01001.cache.metrics.LocalCacheMetricsConfiguration;
+import io.github.kk01001.cache.near.NearCacheManager;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 
 /**
  * @author kk01001
@@ -10,10 +22,42 @@ import org.springframework.context.annotation.Configuration;
  * @description
  */
 @Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(LocalCacheProperties.class)
+@Import(LocalCacheMetricsConfiguration.class)
 public class LocalCacheConfiguration {
 
     @Bean
     public LocalCaffeineCacheFactory localCaffeineCacheFactory() {
         return new LocalCaffeineCacheFactory();
     }
+
+    /**
+     * 二级缓存, 存在 RedissonClient 时启用
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(RedissonClient.class)
+    @ConditionalOnProperty(prefix = "local-cache.near", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class NearCacheConfiguration {
+
+        @Bean
+        public NearCacheManager nearCacheManager(ApplicationContext applicationContext,
+                                                 ObjectProvider<RedissonClient> redissonClientProvider,
+                                                 LocalCacheProperties properties) {
+            return new NearCacheManager(applicationContext, redissonClientProvider, properties);
+        }
+    }
+
+    /**
+     * 本地缓存统计端点
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    static class LocalCacheEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnAvailableEndpoint
+        public LocalCacheEndpoint localCacheEndpoint() {
+            return new LocalCacheEndpoint();
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package io.github.kk01001.cache.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 22:00:00
+ * @description 本地缓存配置
+ */
+@Data
+@ConfigurationProperties(prefix = "local-cache")
+public class LocalCacheProperties {
+
+    /**
+     * 二级缓存配置
+     */
+    private Near near = new Near();
+
+    @Data
+    public static class Near {
+
+        /**
+         * 是否启用二级缓存, 启用后 getNearCacheConfig 不为空的缓存叠加Redis缓存
+         */
+        private Boolean enabled = true;
+
+        /**
+         * 失效通知 channel
+         */
+        private String channel = "local-cache:invalidate";
+
+        /**
+         * Redis缓存key前缀
+         */
+        private String keyPrefix = "local-cache:";
+
+        /**
+         * 批量失效通知合并窗口
+         */
+        private Duration batchWindow = Duration.ofMillis(10);
+
+        /**
+         * 单条失效通知最大key数量
+         */
+        private Integer maxBatchSize = 256;
+    }
+}
@@ -1,12 +1,29 @@
 package io.github.kk01001.cache.core;
 
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Weigher;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.kk01001.cache.near.NearCacheConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ClassUtils;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -18,26 +35,82 @@ import java.util.function.Supplier;
 public abstract class AbstractLocalCaffeineCache<K, V> {
 
     /**
-     * Caffeine缓存实例
+     * 默认加载线程池, 使用虚拟线程执行加载和刷新
      */
-    private final Cache<K, V> cache = createCache();
+    private static final ExecutorService LOADER_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
 
     /**
-     * 创建缓存实例
+     * Caffeine异步缓存实例, 子类重写 createCache 时为空
+     */
+    private final AsyncLoadingCache<K, V> asyncCache;
+
+    /**
+     * 同步缓存, 为异步缓存的同步视图或 createCache 返回的缓存
+     */
+    private final Cache<K, V> cache;
+
+    /**
+     * 二级缓存远程层, 为空时只使用本地缓存
+     */
+    private volatile RemoteCache<K, V> remoteCache;
+
+    protected AbstractLocalCaffeineCache() {
+        Cache<K, V> syncCache = createCache();
+        this.asyncCache = Objects.isNull(syncCache) ? createAsyncCache() : null;
+        this.cache = Objects.isNull(syncCache) ? asyncCache.synchronous() : syncCache;
+    }
+
+    /**
+     * 创建同步缓存实例, 兼容原有扩展点
+     * 返回不为空时使用该缓存, 不再创建异步缓存, getOrLoad, getAll, getAsync 在该缓存上加载
+     *
+     * @return 同步缓存, 默认为空, 使用 createAsyncCache 创建的异步缓存
      */
     protected Cache<K, V> createCache() {
-        return Caffeine.newBuilder()
-                .expireAfterAccess(getExpireAfterAccess())
-                .maximumSize(getMaximumSize())
+        return null;
+    }
+
+    /**
+     * 创建异步缓存实例
+     */
+    protected AsyncLoadingCache<K, V> createAsyncCache() {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
                 .initialCapacity(getInitialCapacity())
-                .removalListener(this::onRemoval)
-                .build();
+                .executor(getLoaderExecutor());
+        Weigher<K, V> weigher = getWeigher();
+        if (Objects.nonNull(weigher)) {
+            builder.maximumWeight(getMaximumWeight());
+        } else {
+            builder.maximumSize(getMaximumSize());
+        }
+        if (Objects.nonNull(getExpireAfterAccess())) {
+            builder.expireAfterAccess(getExpireAfterAccess());
+        }
+        Duration expireAfterWrite = getExpireAfterWrite();
+        NearCacheConfig nearCacheConfig = getNearCacheConfig();
+        if (Objects.isNull(expireAfterWrite) && Objects.nonNull(nearCacheConfig)) {
+            expireAfterWrite = nearCacheConfig.getLocalExpireAfterWrite();
+        }
+        if (Objects.nonNull(expireAfterWrite)) {
+            builder.expireAfterWrite(expireAfterWrite);
+        }
+        if (Objects.nonNull(getRefreshAfterWrite())) {
+            builder.refreshAfterWrite(getRefreshAfterWrite());
+        }
+        if (isRecordStats()) {
+            builder.recordStats();
+        }
+        Caffeine<K, V> typedBuilder = builder.removalListener(this::onRemoval);
+        if (Objects.nonNull(weigher)) {
+            typedBuilder.weigher(weigher);
+        }
+        return typedBuilder.buildAsync(createLoader());
     }
 
     /**
      * 获取缓存过期时间（分钟）
      *
-     * @return 过期时间
+     * @return 过期时间, 为空不按访问时间过期
      */
     protected abstract Duration getExpireAfterAccess();
 
@@ -64,24 +137,171 @@ public abstract class AbstractLocalCaffeineCache<K, V> {
      */
     protected abstract void onRemoval(K key, V value, RemovalCause cause);
 
+    /**
+     * 写入后过期时间, 为空不限制
+     */
+    protected Duration getExpireAfterWrite() {
+        return null;
+    }
+
+    /**
+     * 写入后刷新时间, 到期后首次访问返回旧值并在后台调用 load 刷新, 为空不刷新
+     * 需要重写 load
+     */
+    protected Duration getRefreshAfterWrite() {
+        return null;
+    }
+
+    /**
+     * 权重计算, 不为空时按 getMaximumWeight 限制总权重, 否则按 getMaximumSize 限制条数
+     */
+    protected Weigher<K, V> getWeigher() {
+        return null;
+    }
+
+    /**
+     * 最大总权重
+     */
+    protected long getMaximumWeight() {
+        return getMaximumSize();
+    }
+
+    /**
+     * 是否记录命中率等统计信息
+     */
+    protected boolean isRecordStats() {
+        return true;
+    }
+
+    /**
+     * 加载、刷新使用的线程池, 默认虚拟线程
+     */
+    protected Executor getLoaderExecutor() {
+        return LOADER_EXECUTOR;
+    }
+
+    /**
+     * 加载单个缓存值, getOrLoad 和 refreshAfterWrite 使用
+     *
+     * @return 缓存值, 为空不缓存
+     */
+    protected V load(K key) {
+        return null;
+    }
+
+    /**
+     * 批量加载缓存值, getAll 使用, 默认逐个调用 load
+     *
+     * @param keys 未命中的key
+     * @return key -> 缓存值, 不存在的key不包含在结果中
+     */
+    protected Map<K, V> loadAll(Set<? extends K> keys) {
+        Map<K, V> result = new HashMap<>(keys.size());
+        for (K key : keys) {
+            V value = load(key);
+            if (Objects.nonNull(value)) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 二级缓存策略, 返回不为空时在本地缓存之上叠加Redis缓存, 并在节点间广播失效通知
+     * 需要引入 redisson
+     *
+     * @return 二级缓存策略, 默认只使用本地缓存
+     */
+    public NearCacheConfig getNearCacheConfig() {
+        return null;
+    }
+
+    /**
+     * 缓存名称, 二级缓存的Redis key和失效通知使用, 各节点需一致
+     */
+    public String getCacheName() {
+        return ClassUtils.getUserClass(this).getSimpleName();
+    }
+
+    /**
+     * 绑定二级缓存远程层
+     */
+    public void bindRemoteCache(RemoteCache<K, V> remoteCache) {
+        this.remoteCache = remoteCache;
+    }
+
     /**
      * 获取缓存值
      */
     public V get(K key) {
-        return cache.getIfPresent(key);
+        V value = cache.getIfPresent(key);
+        RemoteCache<K, V> remote = remoteCache;
+        if (Objects.nonNull(value) || Objects.isNull(remote)) {
+            return value;
+        }
+        // 经由缓存加载而不是读取后 put: 同一key的失效会等待加载结束再移除, 不会被过期的远程值覆盖
+        return loadIfAbsent(key, remote::get);
     }
 
     /**
      * 获取缓存值，如果不存在则通过supplier获取并缓存
+     * supplier 在调用线程执行, 同一key并发调用只加载一次
      */
     public V get(K key, Supplier<V> supplier) {
-        return cache.get(key, k -> supplier.get());
+        return loadIfAbsent(key, k -> loadValue(k, supplier));
+    }
+
+    /**
+     * 不存在时在调用线程执行 loader 并放入缓存, loader 返回 null 时不缓存
+     */
+    private V loadIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        if (Objects.isNull(asyncCache)) {
+            return cache.get(key, loader);
+        }
+        // 异步缓存的同步视图会把 mappingFunction 提交到加载线程池, 这里在调用线程计算后直接放入
+        return join(asyncCache.get(key, (k, executor) -> CompletableFuture.completedFuture(loader.apply(k))));
+    }
+
+    /**
+     * 获取缓存值，如果不存在则通过 load 加载并缓存
+     */
+    public V getOrLoad(K key) {
+        if (Objects.isNull(asyncCache)) {
+            return cache.get(key, k -> loadValue(k, () -> load(k)));
+        }
+        return join(asyncCache.get(key));
+    }
+
+    /**
+     * 批量获取缓存值，未命中的key合并为一次 loadAll 调用
+     *
+     * @return key -> 缓存值, 不存在的key不包含在结果中
+     */
+    public Map<K, V> getAll(Collection<K> keys) {
+        if (Objects.isNull(asyncCache)) {
+            return cache.getAll(keys, this::loadValues);
+        }
+        return join(asyncCache.getAll(keys));
+    }
+
+    /**
+     * 异步获取缓存值
+     */
+    public CompletableFuture<V> getAsync(K key) {
+        if (Objects.isNull(asyncCache)) {
+            return CompletableFuture.supplyAsync(() -> getOrLoad(key), getLoaderExecutor());
+        }
+        return asyncCache.get(key);
     }
 
     /**
      * 放入缓存
      */
     public void put(K key, V value) {
+        RemoteCache<K, V> remote = remoteCache;
+        if (Objects.nonNull(remote)) {
+            remote.put(key, value);
+        }
         cache.put(key, value);
     }
 
@@ -89,6 +309,10 @@ public abstract class AbstractLocalCaffeineCache<K, V> {
      * 删除缓存
      */
     public void remove(K key) {
+        RemoteCache<K, V> remote = remoteCache;
+        if (Objects.nonNull(remote)) {
+            remote.remove(key);
+        }
         cache.invalidate(key);
     }
 
@@ -96,9 +320,99 @@ public abstract class AbstractLocalCaffeineCache<K, V> {
      * 清空缓存
      */
     public void clear() {
+        RemoteCache<K, V> remote = remoteCache;
+        if (Objects.nonNull(remote)) {
+            remote.clear();
+        }
         cache.invalidateAll();
     }
 
+    /**
+     * 只失效本地缓存, 收到其他节点失效通知时调用
+     */
+    @SuppressWarnings("unchecked")
+    public void invalidateLocal(Collection<?> keys) {
+        cache.invalidateAll((Collection<K>) keys);
+    }
+
+    /**
+     * 只清空本地缓存
+     */
+    public void invalidateAllLocal() {
+        cache.invalidateAll();
+    }
+
+    private AsyncCacheLoader<K, V> createLoader() {
+        return new AsyncCacheLoader<>() {
+            @Override
+            public CompletableFuture<? extends V> asyncLoad(K key, Executor executor) {
+                return CompletableFuture.supplyAsync(() -> loadValue(key, () -> load(key)), executor);
+            }
+
+            @Override
+            public CompletableFuture<? extends Map<? extends K, ? extends V>> asyncLoadAll(Set<? extends K> keys,
+                                                                                       Executor executor) {
+                return CompletableFuture.supplyAsync(() -> loadValues(keys), executor);
+            }
+        };
+    }
+
+    /**
+     * 加载单个值, 存在二级缓存时先读Redis
+     */
+    private V loadValue(K key, Supplier<V> supplier) {
+        RemoteCache<K, V> remote = remoteCache;
+        if (Objects.isNull(remote)) {
+            return supplier.get();
+        }
+        V value = remote.get(key);
+        if (Objects.nonNull(value)) {
+            return value;
+        }
+        value = supplier.get();
+        if (Objects.nonNull(value)) {
+            remote.putIfAbsent(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 批量加载, 存在二级缓存时先批量读Redis, 剩余的key合并为一次 loadAll
+     */
+    private Map<K, V> loadValues(Set<? extends K> keys) {
+        RemoteCache<K, V> remote = remoteCache;
+        if (Objects.isNull(remote)) {
+            return loadAll(keys);
+        }
+        Map<K, V> result = new HashMap<>(remote.getAll(new HashSet<>(keys)));
+        Set<K> missKeys = new HashSet<>(keys);
+        missKeys.removeAll(result.keySet());
+        if (missKeys.isEmpty()) {
+            return result;
+        }
+        loadAll(missKeys).forEach((key, value) -> {
+            if (Objects.nonNull(value)) {
+                remote.putIfAbsent(key, value);
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
     /**
      * 获取缓存大小
      */
@@ -109,4 +423,11 @@ public abstract class AbstractLocalCaffeineCache<K, V> {
     public CacheStats stats() {
         return cache.stats();
     }
-} 
\ No newline at end of file
+
+    /**
+     * 获取Caffeine缓存实例, 用于指标绑定等扩展
+     */
+    public Cache<K, V> getNativeCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.kk01001.cache.core;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 22:00:00
+ * @description 二级缓存远程层, 写操作需通知其他节点失效本地缓存
+ */
+public interface RemoteCache<K, V> {
+
+    /**
+     * 获取远程缓存值
+     */
+    V get(K key);
+
+    /**
+     * 批量获取远程缓存值, 不存在的key不包含在结果中
+     */
+    Map<K, V> getAll(Set<K> keys);
+
+    /**
+     * 本地加载后回填远程缓存, 不通知其他节点
+     */
+    void putIfAbsent(K key, V value);
+
+    /**
+     * 写入远程缓存并通知其他节点失效
+     */
+    void put(K key, V value);
+
+    /**
+     * 删除远程缓存并通知其他节点失效
+     */
+    void remove(K key);
+
+    /**
+     * 清空远程缓存并通知其他节点清空
+     */
+    void clear();
+}
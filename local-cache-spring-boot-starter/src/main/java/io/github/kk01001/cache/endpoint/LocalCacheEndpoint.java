@@ -0,0 +1,35 @@
+package io.github.kk01001.cache.endpoint;
+
+import io.github.kk01001.cache.factory.LocalCaffeineCacheFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.Map;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 22:40:00
+ * @description 本地缓存统计端点 /actuator/localcache
+ */
+@Endpoint(id = "localcache")
+public class LocalCacheEndpoint {
+
+    /**
+     * 所有缓存统计信息
+     */
+    @ReadOperation
+    public Map<String, Map<String, Object>> caches() {
+        return LocalCaffeineCacheFactory.getCacheStats();
+    }
+
+    /**
+     * 单个缓存统计信息
+     *
+     * @param name 缓存类名
+     */
+    @ReadOperation
+    public Map<String, Object> cache(@Selector String name) {
+        return LocalCaffeineCacheFactory.getCacheStats().get(name);
+    }
+}
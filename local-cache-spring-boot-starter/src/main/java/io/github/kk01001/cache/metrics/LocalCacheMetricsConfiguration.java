@@ -0,0 +1,29 @@
+package io.github.kk01001.cache.metrics;
+
+import io.github.kk01001.cache.factory.LocalCaffeineCacheFactory;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 22:40:00
+ * @description 本地缓存指标自动配置
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterBinder.class)
+public class LocalCacheMetricsConfiguration {
+
+    /**
+     * 本地缓存指标: 命中率, 淘汰数量, 加载耗时等, cache 标签为缓存名称
+     */
+    @Bean
+    public MeterBinder localCaffeineCacheMeterBinder() {
+        return meterRegistry -> LocalCaffeineCacheFactory.getAllCaches().forEach((cacheClass, cache) ->
+                CaffeineCacheMetrics.monitor(meterRegistry, cache.getNativeCache(), cache.getCacheName(),
+                        Tags.of("class", cacheClass.getName())));
+    }
+}
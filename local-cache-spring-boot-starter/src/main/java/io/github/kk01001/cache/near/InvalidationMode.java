@@ -0,0 +1,19 @@
+package io.github.kk01001.cache.near;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 22:00:00
+ * @description 失效通知方式
+ */
+public enum InvalidationMode {
+
+    /**
+     * 在合并窗口内批量发送失效通知, 其他节点最多在窗口时间内读到旧值
+     */
+    BATCH,
+
+    /**
+     * 每次写操作立即发送失效通知
+     */
+    IMMEDIATE
+}
@@ -0,0 +1,31 @@
+package io.github.kk01001.cache.near;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.time.Duration;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 22:00:00
+ * @description 单个缓存的二级缓存策略
+ */
+@Data
+@Accessors(chain = true)
+public class NearCacheConfig {
+
+    /**
+     * Redis缓存过期时间
+     */
+    private Duration remoteExpire = Duration.ofHours(1);
+
+    /**
+     * 本地缓存写入后过期时间, 失效通知丢失(如网络断开)时限制旧值的最长存活时间, 为空不限制
+     */
+    private Duration localExpireAfterWrite;
+
+    /**
+     * 失效通知方式
+     */
+    private InvalidationMode invalidationMode = InvalidationMode.BATCH;
+}
@@ -0,0 +1,39 @@
+package io.github.kk01001.cache.near;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 22:00:00
+ * @description 失效通知消息
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearCacheInvalidation implements Serializable {
+
+    /**
+     * 发送节点id, 忽略本节点发送的消息
+     */
+    private String nodeId;
+
+    /**
+     * 缓存名称
+     */
+    private String cacheName;
+
+    /**
+     * 失效的key
+     */
+    private List<Object> keys;
+
+    /**
+     * 是否清空整个缓存
+     */
+    private Boolean clear;
+}
@@ -0,0 +1,208 @@
+package io.github.kk01001.cache.near;
+
+import io.github.kk01001.cache.config.LocalCacheProperties;
+import io.github.kk01001.cache.core.AbstractLocalCaffeineCache;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 22:00:00
+ * @description 二级缓存管理器
+ * <p>
+ * 为 getNearCacheConfig 不为空的本地缓存绑定Redis缓存, 写操作通过 pub/sub 广播失效通知,
+ * 其他节点收到后失效本地缓存, 下次读取从Redis获取最新值
+ */
+@Slf4j
+public class NearCacheManager implements SmartInitializingSingleton, DisposableBean {
+
+    private final ApplicationContext applicationContext;
+
+    private final ObjectProvider<RedissonClient> redissonClientProvider;
+
+    private RedissonClient redissonClient;
+
+    private final LocalCacheProperties.Near properties;
+
+    /**
+     * 当前节点id
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 缓存名称 -> 缓存
+     */
+    private final Map<String, AbstractLocalCaffeineCache<?, ?>> nearCacheMap = new ConcurrentHashMap<>();
+
+    /**
+     * 缓存名称 -> 待发送失效通知的key
+     */
+    private final Map<String, Set<Object>> pendingKeyMap = new ConcurrentHashMap<>();
+
+    /**
+     * 是否已订阅过, 重新订阅时可能丢失通知, 需清空本地缓存
+     */
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    private RTopic topic;
+
+    private Integer messageListenerId;
+
+    private Integer statusListenerId;
+
+    private ScheduledExecutorService flushExecutor;
+
+    public NearCacheManager(ApplicationContext applicationContext,
+                            ObjectProvider<RedissonClient> redissonClientProvider,
+                            LocalCacheProperties properties) {
+        this.applicationContext = applicationContext;
+        this.redissonClientProvider = redissonClientProvider;
+        this.properties = properties.getNear();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        @SuppressWarnings("rawtypes")
+        List<AbstractLocalCaffeineCache> caches = applicationContext.getBeansOfType(AbstractLocalCaffeineCache.class)
+                .values()
+                .stream()
+                .filter(cache -> Objects.nonNull(cache.getNearCacheConfig()))
+                .toList();
+        if (caches.isEmpty()) {
+            return;
+        }
+        redissonClient = redissonClientProvider.getIfAvailable();
+        if (Objects.isNull(redissonClient)) {
+            log.warn("未找到 RedissonClient, 二级缓存不生效");
+            return;
+        }
+        topic = redissonClient.getTopic(properties.getChannel());
+        messageListenerId = topic.addListener(NearCacheInvalidation.class, (channel, message) -> onMessage(message));
+        statusListenerId = topic.addListener(new BaseStatusListener() {
+            @Override
+            public void onSubscribe(String channel) {
+                if (!subscribed.compareAndSet(false, true)) {
+                    log.warn("二级缓存失效通知重新订阅, 清空本地缓存: {}", nearCacheMap.keySet());
+                    nearCacheMap.values().forEach(AbstractLocalCaffeineCache::invalidateAllLocal);
+                }
+            }
+        });
+
+        caches.forEach(this::bind);
+
+        long window = Math.max(1, properties.getBatchWindow().toMillis());
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "near-cache-invalidation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flushQuietly, window, window, TimeUnit.MILLISECONDS);
+        log.info("二级缓存已启用: {}", nearCacheMap.keySet());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void bind(AbstractLocalCaffeineCache cache) {
+        NearCacheConfig config = cache.getNearCacheConfig();
+        String cacheName = cache.getCacheName();
+        AbstractLocalCaffeineCache<?, ?> exist = nearCacheMap.putIfAbsent(cacheName, cache);
+        if (Objects.nonNull(exist)) {
+            throw new IllegalStateException("二级缓存名称重复: " + cacheName);
+        }
+        cache.bindRemoteCache(new RedissonNearCache<>(cacheName,
+                redissonClient.getMapCache(properties.getKeyPrefix() + cacheName), config, this));
+    }
+
+    /**
+     * 发送key失效通知
+     */
+    public void publish(String cacheName, Object key, InvalidationMode mode) {
+        if (mode == InvalidationMode.IMMEDIATE) {
+            topic.publish(new NearCacheInvalidation(nodeId, cacheName, List.of(key), false));
+            return;
+        }
+        Set<Object> pendingKeys = pendingKeyMap.computeIfAbsent(cacheName, k -> ConcurrentHashMap.newKeySet());
+        pendingKeys.add(key);
+        if (pendingKeys.size() >= properties.getMaxBatchSize()) {
+            flush(cacheName, pendingKeys);
+        }
+    }
+
+    /**
+     * 发送清空通知
+     */
+    public void publishClear(String cacheName) {
+        Set<Object> pendingKeys = pendingKeyMap.get(cacheName);
+        if (Objects.nonNull(pendingKeys)) {
+            pendingKeys.clear();
+        }
+        topic.publish(new NearCacheInvalidation(nodeId, cacheName, List.of(), true));
+    }
+
+    private void onMessage(NearCacheInvalidation message) {
+        if (nodeId.equals(message.getNodeId())) {
+            return;
+        }
+        AbstractLocalCaffeineCache<?, ?> cache = nearCacheMap.get(message.getCacheName());
+        if (Objects.isNull(cache)) {
+            return;
+        }
+        if (Boolean.TRUE.equals(message.getClear())) {
+            cache.invalidateAllLocal();
+            return;
+        }
+        cache.invalidateLocal(message.getKeys());
+    }
+
+    private void flushQuietly() {
+        try {
+            pendingKeyMap.forEach(this::flush);
+        } catch (Exception e) {
+            log.error("二级缓存失效通知发送失败", e);
+        }
+    }
+
+    private void flush(String cacheName, Set<Object> pendingKeys) {
+        List<Object> keys = new ArrayList<>();
+        Iterator<Object> iterator = pendingKeys.iterator();
+        while (iterator.hasNext()) {
+            keys.add(iterator.next());
+            iterator.remove();
+            if (keys.size() >= properties.getMaxBatchSize()) {
+                topic.publish(new NearCacheInvalidation(nodeId, cacheName, keys, false));
+                keys = new ArrayList<>();
+            }
+        }
+        if (!keys.isEmpty()) {
+            topic.publish(new NearCacheInvalidation(nodeId, cacheName, keys, false));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (Objects.isNull(topic)) {
+            return;
+        }
+        flushExecutor.shutdown();
+        flushQuietly();
+        topic.removeListener(messageListenerId, statusListenerId);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.kk01001.cache.near;
+
+import io.github.kk01001.cache.core.RemoteCache;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMapCache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author kk01001
+ * @date 2026-10-18 22:00:00
+ * @description 基于Redisson RMapCache的二级缓存远程层
+ */
+@Slf4j
+public class RedissonNearCache<K, V> implements RemoteCache<K, V> {
+
+    private final String cacheName;
+
+    private final RMapCache<K, V> mapCache;
+
+    private final NearCacheConfig config;
+
+    private final NearCacheManager nearCacheManager;
+
+    public RedissonNearCache(String cacheName,
+                             RMapCache<K, V> mapCache,
+                             NearCacheConfig config,
+                             NearCacheManager nearCacheManager) {
+        this.cacheName = cacheName;
+        this.mapCache = mapCache;
+        this.config = config;
+        this.nearCacheManager = nearCacheManager;
+    }
+
+    @Override
+    public V get(K key) {
+        try {
+            return mapCache.get(key);
+        } catch (Exception e) {
+            // Redis不可用时降级为本地加载
+            log.warn("二级缓存读取失败, cacheName: {}, key: {}", cacheName, key, e);
+            return null;
+        }
+    }
+
+    @Override
+    public Map<K, V> getAll(Set<K> keys) {
+        try {
+            return mapCache.getAll(keys);
+        } catch (Exception e) {
+            log.warn("二级缓存批量读取失败, cacheName: {}, size: {}", cacheName, keys.size(), e);
+            return Map.of();
+        }
+    }
+
+    @Override
+    public void putIfAbsent(K key, V value) {
+        try {
+            mapCache.fastPutIfAbsent(key, value, getRemoteExpireMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("二级缓存回填失败, cacheName: {}, key: {}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void put(K key, V value) {
+        mapCache.fastPut(key, value, getRemoteExpireMillis(), TimeUnit.MILLISECONDS);
+        nearCacheManager.publish(cacheName, key, config.getInvalidationMode());
+    }
+
+    @Override
+    public void remove(K key) {
+        mapCache.fastRemove(key);
+        nearCacheManager.publish(cacheName, key, config.getInvalidationMode());
+    }
+
+    @Override
+    public void clear() {
+        mapCache.delete();
+        nearCacheManager.publishClear(cacheName);
+    }
+
+    private long getRemoteExpireMillis() {
+        // 0 表示不过期
+        return config.getRemoteExpire() == null ? 0 : config.getRemoteExpire().toMillis();
+    }
+}
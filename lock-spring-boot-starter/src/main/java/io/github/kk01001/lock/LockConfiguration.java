@@ -1,7 +1,11 @@
 package io.github.kk01001.lock;
 
+import io.github.kk01001.lock.config.LockProperties;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
 
 /**
  * @author linshiqiang
@@ -9,6 +13,8 @@ import org.springframework.context.annotation.Configuration;
  * @description
  */
 @Configuration
-@ComponentScan("io.github.kk01001.lock")
+@ComponentScan(value = "io.github.kk01001.lock",
+        excludeFilters = @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class))
+@EnableConfigurationProperties(LockProperties.class)
 public class LockConfiguration {
 }
@@ -1,22 +1,19 @@
 package io.github.kk01001.lock.aspect;
 
 import cn.hutool.core.util.StrUtil;
+import io.github.kk01001.expression.MethodExpressionEvaluator;
 import io.github.kk01001.lock.core.LockFactory;
 import io.github.kk01001.lock.exception.LockException;
 import io.github.kk01001.lock.model.LockRule;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.reflect.CodeSignature;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.Expression;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
-import org.springframework.util.Assert;
 
 import java.util.Objects;
 
@@ -33,7 +30,7 @@ public class LockAspect {
 
     private final LockFactory lockFactory;
 
-    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private final MethodExpressionEvaluator evaluator = new MethodExpressionEvaluator();
 
     @Autowired
     public LockAspect(ApplicationContext applicationContext, LockFactory lockFactory) {
@@ -49,31 +46,34 @@ public class LockAspect {
         }
 
         // 创建SpEL上下文
-        EvaluationContext context = getEvaluationContext(joinPoint);
+        EvaluationContext context = evaluator.createEvaluationContext(joinPoint, beanFactoryResolver);
+        AnnotatedElementKey methodKey = evaluator.getMethodKey(joinPoint);
 
-        LockRule lockRule = buildRule(lock, context);
-
-        try {
-            // 阻塞
-            if (Boolean.TRUE.equals(lockRule.getBlock())) {
-                lockFactory.lock(lockRule);
-                return joinPoint.proceed();
-            }
+        LockRule lockRule = buildRule(lock, methodKey, context);
 
+        // 阻塞
+        if (Boolean.TRUE.equals(lockRule.getBlock())) {
+            lockFactory.lock(lockRule);
+        } else {
             // 非阻塞
             boolean access = lockFactory.tryLock(lockRule);
             if (!access) {
                 throw new LockException("获取锁失败，请稍后再试");
             }
+        }
+        long lockedNanos = System.nanoTime();
+
+        // 只有加锁成功才释放, 避免释放未持有的锁
+        try {
             return joinPoint.proceed();
         } finally {
-            lockFactory.unlock(lockRule);
+            lockFactory.unlock(lockRule, lockedNanos);
         }
     }
 
-    private LockRule buildRule(Lock lock, EvaluationContext context) {
+    private LockRule buildRule(Lock lock, AnnotatedElementKey methodKey, EvaluationContext context) {
         String ruledFunction = lock.ruleFunction();
-        LockRule lockRule = parseExpression(ruledFunction, context, LockRule.class);
+        LockRule lockRule = evaluator.getValue(ruledFunction, methodKey, context, LockRule.class);
         if (Objects.nonNull(lockRule)) {
             return lockRule;
         }
@@ -83,8 +83,9 @@ public class LockAspect {
                 .block(lock.block())
                 .lockType(lock.type())
                 .redisClientType(lock.redisClientType())
-                .key(parseExpression(lock.key(), context, String.class))
-                .permits(getValue(lock.permits(), parseExpression(lock.permitsFunction(), context, Integer.class)))
+                .key(evaluator.getValue(lock.key(), methodKey, context, String.class))
+                .keyPattern(lock.key())
+                .permits(getValue(lock.permits(), evaluator.getValue(lock.permitsFunction(), methodKey, context, Integer.class)))
                 .fair(lock.fair())
                 .timeout(lock.timeout())
                 .timeUnit(lock.timeunit())
@@ -95,31 +96,4 @@ public class LockAspect {
         return Objects.isNull(valueFunction) ? value : valueFunction;
     }
 
-    /**
-     * 解析SpEL表达式
-     */
-    private <T> T parseExpression(String spEl, EvaluationContext context, Class<T> returnClassType) {
-        if (StrUtil.isEmpty(spEl)) {
-            return null;
-        }
-        // 解析SpEL表达式
-        Expression expression = parser.parseExpression(spEl);
-        return expression.getValue(context, returnClassType);
-    }
-
-    private EvaluationContext getEvaluationContext(ProceedingJoinPoint joinPoint) {
-        StandardEvaluationContext context = new StandardEvaluationContext();
-        // 将方法的参数名和值添加到SpEL上下文中
-        Object[] args = joinPoint.getArgs();
-        String[] paramNames = ((CodeSignature) joinPoint.getSignature()).getParameterNames();
-
-        Assert.notNull(paramNames, "paramNames is null, compiler code, please add -parameters");
-
-        for (int i = 0; i < paramNames.length; i++) {
-            context.setVariable(paramNames[i], args[i]);
-        }
-        context.setBeanResolver(beanFactoryResolver);
-        return context;
-    }
-
 }
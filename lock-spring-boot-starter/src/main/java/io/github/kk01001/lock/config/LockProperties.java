@@ -0,0 +1,55 @@
+package io.github.kk01001.lock.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 17:02:00
+ * @description 锁配置属性
+ */
+@Data
+@ConfigurationProperties(prefix = "lock")
+public class LockProperties {
+
+    /**
+     * 本地锁注册表配置
+     */
+    private Registry registry = new Registry();
+
+    /**
+     * redis template 信号量配置
+     */
+    private Semaphore semaphore = new Semaphore();
+
+    @Data
+    public static class Registry {
+
+        /**
+         * 最大锁数量, 超过后淘汰最久未使用的空闲锁
+         * 正在持有或等待的锁不会被淘汰
+         */
+        private Integer maxSize = 10000;
+
+        /**
+         * 空闲过期时间, 无线程持有或等待且超过该时间未访问的锁会被淘汰
+         */
+        private Duration idleTime = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class Semaphore {
+
+        /**
+         * 释放通知频道前缀, 完整频道为 前缀 + 信号量key
+         */
+        private String channelPrefix = "lock:semaphore:release:";
+
+        /**
+         * 等待释放通知的最大时间, 超过后主动重试, 避免通知丢失时一直等待
+         */
+        private Duration pollInterval = Duration.ofSeconds(1);
+    }
+}
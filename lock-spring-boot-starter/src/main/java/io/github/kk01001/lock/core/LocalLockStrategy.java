@@ -0,0 +1,13 @@
+package io.github.kk01001.lock.core;
+
+import io.github.kk01001.lock.manager.LockRegistry;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 17:30:00
+ * @description 单机锁策略, 锁对象保存在本地注册表中
+ */
+public interface LocalLockStrategy extends LockStrategy {
+
+    LockRegistry<?> getRegistry();
+}
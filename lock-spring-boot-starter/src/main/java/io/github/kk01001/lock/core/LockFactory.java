@@ -4,6 +4,7 @@ import io.github.kk01001.lock.enums.LockType;
 import io.github.kk01001.lock.exception.LockException;
 import io.github.kk01001.lock.model.LockRule;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
@@ -20,13 +21,18 @@ public class LockFactory implements CommandLineRunner {
 
     private final List<LockStrategy> strategyList;
 
+    private final ObjectProvider<LockMetrics> lockMetricsProvider;
+
     private static final Map<LockType, LockStrategy> STRATEGY_MAP = new HashMap<>(8);
 
+    private LockMetrics lockMetrics = LockMetrics.NOOP;
+
     @Override
     public void run(String... args) {
         for (LockStrategy strategy : strategyList) {
             STRATEGY_MAP.put(strategy.getType(), strategy);
         }
+        lockMetrics = lockMetricsProvider.getIfAvailable(() -> LockMetrics.NOOP);
     }
 
     public void lock(LockRule lockRule) {
@@ -39,7 +45,15 @@ public class LockFactory implements CommandLineRunner {
         LockType lockType = lockRule.getLockType();
         Optional<LockStrategy> lockStrategy = Optional.ofNullable(STRATEGY_MAP.get(lockType));
         if (lockStrategy.isPresent()) {
-            lockStrategy.get().lock(lockRule);
+            long start = System.nanoTime();
+            boolean acquired = false;
+            lockMetrics.onWaitStart(lockRule);
+            try {
+                lockStrategy.get().lock(lockRule);
+                acquired = true;
+            } finally {
+                lockMetrics.onWaitEnd(lockRule, System.nanoTime() - start, acquired);
+            }
             return;
         }
         throw new LockException("未找到对应的锁策略类型: " + lockType);
@@ -55,12 +69,29 @@ public class LockFactory implements CommandLineRunner {
         LockType lockType = lockRule.getLockType();
         Optional<LockStrategy> lockStrategy = Optional.ofNullable(STRATEGY_MAP.get(lockType));
         if (lockStrategy.isPresent()) {
-            return lockStrategy.get().tryLock(lockRule);
+            long start = System.nanoTime();
+            boolean acquired = false;
+            lockMetrics.onWaitStart(lockRule);
+            try {
+                acquired = lockStrategy.get().tryLock(lockRule);
+                return acquired;
+            } finally {
+                lockMetrics.onWaitEnd(lockRule, System.nanoTime() - start, acquired);
+            }
         }
         throw new LockException("未找到对应的锁策略类型: " + lockType);
     }
 
     public void unlock(LockRule lockRule) {
+        unlock(lockRule, -1L);
+    }
+
+    /**
+     * 释放锁并记录持有耗时
+     *
+     * @param lockedNanos 加锁成功时的 {@link System#nanoTime()}, 小于0时不记录持有耗时
+     */
+    public void unlock(LockRule lockRule, long lockedNanos) {
         if (Objects.isNull(lockRule)) {
             return;
         }
@@ -70,7 +101,11 @@ public class LockFactory implements CommandLineRunner {
         LockType lockType = lockRule.getLockType();
         Optional<LockStrategy> lockStrategy = Optional.ofNullable(STRATEGY_MAP.get(lockType));
         if (lockStrategy.isPresent()) {
-            lockStrategy.get().unlock(lockRule);
+            try {
+                lockStrategy.get().unlock(lockRule);
+            } finally {
+                lockMetrics.onUnlock(lockRule, lockedNanos < 0 ? -1L : System.nanoTime() - lockedNanos);
+            }
             return;
         }
         throw new LockException("未找到对应的锁策略类型: " + lockType);
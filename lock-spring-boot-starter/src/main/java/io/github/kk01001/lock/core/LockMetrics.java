@@ -0,0 +1,40 @@
+package io.github.kk01001.lock.core;
+
+import io.github.kk01001.lock.model.LockRule;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 21:00:00
+ * @description 锁指标收集
+ */
+public interface LockMetrics {
+
+    /**
+     * 不收集指标
+     */
+    LockMetrics NOOP = new LockMetrics() {
+    };
+
+    /**
+     * 开始等待锁
+     */
+    default void onWaitStart(LockRule lockRule) {
+    }
+
+    /**
+     * 等待结束
+     *
+     * @param waitNanos 等待耗时(纳秒)
+     * @param acquired  是否获取成功
+     */
+    default void onWaitEnd(LockRule lockRule, long waitNanos, boolean acquired) {
+    }
+
+    /**
+     * 释放锁
+     *
+     * @param holdNanos 持有耗时(纳秒), 调用方未提供加锁时间时为 -1
+     */
+    default void onUnlock(LockRule lockRule, long holdNanos) {
+    }
+}
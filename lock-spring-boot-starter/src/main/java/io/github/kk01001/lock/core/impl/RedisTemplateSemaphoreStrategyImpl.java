@@ -1,6 +1,7 @@
 package io.github.kk01001.lock.core.impl;
 
 import cn.hutool.core.collection.ListUtil;
+import io.github.kk01001.lock.config.LockProperties;
 import io.github.kk01001.lock.core.LockStrategy;
 import io.github.kk01001.lock.enums.LockType;
 import io.github.kk01001.lock.manager.LuaScriptManager;
@@ -8,95 +9,251 @@ import io.github.kk01001.lock.model.LockRule;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author linshiqiang
  * @date 2024-09-17 20:14:00
  * @description redis template lua 信号量
+ * <p>
+ * 释放时通过 PUBLISH 通知 前缀 + key 频道, 本节点所有等待线程共用一个模式订阅,
+ * 收到通知后唤醒等待该key的线程重试; 同时按 pollInterval 兜底重试, 避免通知丢失
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @ConditionalOnBean(RedisTemplate.class)
-public class RedisTemplateSemaphoreStrategyImpl implements LockStrategy {
+public class RedisTemplateSemaphoreStrategyImpl implements LockStrategy, InitializingBean, DisposableBean {
+
+    private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    private static final byte[] RELEASE_PERMITS = "1".getBytes(StandardCharsets.UTF_8);
 
     private final RedisTemplate<String, Object> redisTemplate;
 
+    private final LockProperties lockProperties;
+
+    private final Map<String, ReleaseNotifier> notifierMap = new ConcurrentHashMap<>();
+
+    private DefaultRedisScript<Long> tryAcquireScript;
+
+    private DefaultRedisScript<Long> releaseScript;
+
+    /**
+     * 释放脚本的参数序列化, KEYS 与获取时一致使用模板的key序列化, ARGV 以 byte[] 原样传入
+     */
+    private RedisSerializer<Object> releaseArgsSerializer;
+
+    private RedisMessageListenerContainer listenerContainer;
+
     @Override
     public LockType getType() {
         return LockType.REDIS_TEMPLATE_SEMAPHORE;
     }
 
+    @Override
+    public void afterPropertiesSet() {
+        tryAcquireScript = createScript(LuaScriptManager.getSemaphoreTryAcquire());
+        releaseScript = createScript(LuaScriptManager.getSemaphoreRelease());
+        releaseArgsSerializer = createReleaseArgsSerializer();
+
+        String channelPrefix = lockProperties.getSemaphore().getChannelPrefix();
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisTemplate.getRequiredConnectionFactory());
+        listenerContainer.setTaskExecutor(createTaskExecutor());
+        listenerContainer.addMessageListener(new ReleaseListener(channelPrefix), new PatternTopic(channelPrefix + "*"));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
     @Override
     public void lock(LockRule lockRule) {
-        tryAcquireDirectly(lockRule);
+        tryAcquire(lockRule, Long.MAX_VALUE);
     }
 
-    @SneakyThrows
     @Override
     public boolean tryLock(LockRule lockRule) {
-        long time = lockRule.getTimeout();
-        long current = System.currentTimeMillis();
+        long timeout = lockRule.getTimeUnit().toMillis(lockRule.getTimeout());
+        return tryAcquire(lockRule, System.currentTimeMillis() + timeout);
+    }
 
+    @Override
+    public void unlock(LockRule lockRule) {
+        release(lockRule);
+    }
+
+    @SneakyThrows
+    private boolean tryAcquire(LockRule lockRule, long deadline) {
         // 第一次尝试获取信号量
         if (tryAcquireDirectly(lockRule)) {
             return true;
         }
 
-        // 减去第一次尝试获取所消耗的时间
-        time -= System.currentTimeMillis() - current;
-        if (time <= 0) {
-            return false;
-        }
+        String key = lockRule.getKey();
+        long pollInterval = lockProperties.getSemaphore().getPollInterval().toMillis();
+        ReleaseNotifier notifier = register(key);
+        try {
+            while (true) {
+                // 先记录通知版本, 获取失败后只在版本未变化时等待, 避免错过两者之间的释放通知
+                long version = notifier.version;
+                if (tryAcquireDirectly(lockRule)) {
+                    return true;
+                }
 
-        // 尝试订阅，模拟等待信号量释放
-        while (true) {
-            current = System.currentTimeMillis();
-            if (tryAcquireDirectly(lockRule)) {
-                return true;
-            }
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
 
-            // 再次检查剩余等待时间
-            time -= System.currentTimeMillis() - current;
-            if (time <= 0) {
-                return false;
+                // 等待释放通知
+                notifier.await(version, Math.min(pollInterval, remaining));
             }
+        } finally {
+            unregister(key);
+        }
+    }
+
+    private boolean tryAcquireDirectly(LockRule lockRule) {
+        Long result = redisTemplate.execute(tryAcquireScript, ListUtil.of(lockRule.getKey()), 1, lockRule.getPermits());
+        return result != null && result == 1;
+    }
 
-            // 模拟等待信号量释放
-            TimeUnit.MILLISECONDS.sleep(Math.min(100, time));
+    public void release(LockRule lockRule) {
+        String channel = lockProperties.getSemaphore().getChannelPrefix() + lockRule.getKey();
+        // 频道名按字符串编码, 保证与订阅一致
+        redisTemplate.execute(releaseScript, releaseArgsSerializer, RESULT_SERIALIZER,
+                ListUtil.of(lockRule.getKey()), RELEASE_PERMITS, channel.getBytes(StandardCharsets.UTF_8));
+    }
 
-            time -= System.currentTimeMillis() - current;
-            if (time <= 0) {
-                return false;
+    private ReleaseNotifier register(String key) {
+        return notifierMap.compute(key, (k, v) -> {
+            if (v == null) {
+                v = new ReleaseNotifier();
             }
-        }
+            v.waiters++;
+            return v;
+        });
     }
 
-    @Override
-    public void unlock(LockRule lockRule) {
-        release(lockRule);
+    private void unregister(String key) {
+        notifierMap.computeIfPresent(key, (k, v) -> --v.waiters == 0 ? null : v);
     }
 
-    private boolean tryAcquireDirectly(LockRule lockRule) {
-        String luaScript = LuaScriptManager.getSemaphoreTryAcquire();
-        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
-        redisScript.setScriptText(luaScript);
-        redisScript.setResultType(Long.class);
-        Long result = redisTemplate.execute(redisScript, ListUtil.of(lockRule.getKey()), 1, lockRule.getPermits());
-        return result != null && result == 1;
+    /**
+     * 每次释放许可都会发布一条通知, 高并发下通知量与释放次数相同;
+     * 分发只负责唤醒本节点的等待线程, 用虚拟线程承载, 不为每条通知占用一个平台线程
+     */
+    private SimpleAsyncTaskExecutor createTaskExecutor() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("redis-semaphore-listener-");
+        taskExecutor.setVirtualThreads(true);
+        return taskExecutor;
     }
 
-    public void release(LockRule lockRule) {
-        String luaScript = LuaScriptManager.getSemaphoreRelease();
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<Object> createReleaseArgsSerializer() {
+        RedisSerializer<Object> keySerializer = (RedisSerializer<Object>) redisTemplate.getKeySerializer();
+        return new RedisSerializer<>() {
+            @Override
+            public byte[] serialize(Object value) {
+                return value instanceof byte[] bytes ? bytes : keySerializer.serialize(value);
+            }
+
+            @Override
+            public Object deserialize(byte[] bytes) {
+                return keySerializer.deserialize(bytes);
+            }
+        };
+    }
+
+    private DefaultRedisScript<Long> createScript(String luaScript) {
         DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
         redisScript.setScriptText(luaScript);
         redisScript.setResultType(Long.class);
-        redisTemplate.execute(redisScript, ListUtil.of(lockRule.getKey()), 1);
+        return redisScript;
+    }
+
+    /**
+     * 订阅释放通知, 唤醒本节点等待该key的线程
+     */
+    @RequiredArgsConstructor
+    private class ReleaseListener implements MessageListener {
+
+        private final String channelPrefix;
+
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            ReleaseNotifier notifier = notifierMap.get(channel.substring(channelPrefix.length()));
+            if (notifier != null) {
+                notifier.signalAll();
+            }
+        }
+    }
+
+    /**
+     * 单个key的等待线程
+     */
+    private static final class ReleaseNotifier {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Condition released = lock.newCondition();
+
+        /**
+         * 等待线程数, 只在 compute 中修改
+         */
+        private int waiters;
+
+        /**
+         * 收到的释放通知次数
+         */
+        private volatile long version;
+
+        private void await(long expectedVersion, long timeout) throws InterruptedException {
+            lock.lock();
+            try {
+                if (version == expectedVersion) {
+                    released.await(timeout, TimeUnit.MILLISECONDS);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void signalAll() {
+            lock.lock();
+            try {
+                version++;
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
     }
 }
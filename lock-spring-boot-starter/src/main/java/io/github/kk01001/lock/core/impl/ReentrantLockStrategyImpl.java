@@ -1,15 +1,16 @@
 package io.github.kk01001.lock.core.impl;
 
-import io.github.kk01001.lock.core.LockStrategy;
+import io.github.kk01001.lock.config.LockProperties;
+import io.github.kk01001.lock.core.LocalLockStrategy;
 import io.github.kk01001.lock.enums.LockType;
+import io.github.kk01001.lock.exception.LockException;
+import io.github.kk01001.lock.manager.LockRegistry;
 import io.github.kk01001.lock.model.LockRule;
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -19,21 +20,34 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class ReentrantLockStrategyImpl implements LockStrategy {
+public class ReentrantLockStrategyImpl implements LocalLockStrategy {
 
-    private static final Map<String, ReentrantLock> MAP = new ConcurrentHashMap<>();
+    private final LockRegistry<ReentrantLock> registry;
+
+    public ReentrantLockStrategyImpl(LockProperties lockProperties) {
+        this.registry = new LockRegistry<>(lockProperties.getRegistry());
+    }
 
     @Override
     public LockType getType() {
         return LockType.REENTRANT_LOCK;
     }
 
+    @Override
+    public LockRegistry<ReentrantLock> getRegistry() {
+        return registry;
+    }
+
     @SneakyThrows
     @Override
     public void lock(LockRule lockRule) {
         ReentrantLock lock = getReentrantLock(lockRule);
-        lock.lock();
+        try {
+            lock.lock();
+        } catch (Throwable e) {
+            registry.release(lockRule.getKey());
+            throw e;
+        }
     }
 
     @SneakyThrows
@@ -41,18 +55,31 @@ public class ReentrantLockStrategyImpl implements LockStrategy {
     public boolean tryLock(LockRule lockRule) {
         Long timeout = lockRule.getTimeout();
         ReentrantLock lock = getReentrantLock(lockRule);
-        return lock.tryLock(timeout, lockRule.getTimeUnit());
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(timeout, lockRule.getTimeUnit());
+            return locked;
+        } finally {
+            if (!locked) {
+                registry.release(lockRule.getKey());
+            }
+        }
     }
 
     @Override
     public void unlock(LockRule lockRule) {
-        ReentrantLock lock = getReentrantLock(lockRule);
+        String key = lockRule.getKey();
+        ReentrantLock lock = registry.get(key);
+        if (Objects.isNull(lock)) {
+            throw new LockException("lock not exist: " + key);
+        }
+        // 释放失败(如当前线程未持有锁)时不减少引用计数, 避免持有中的锁被淘汰
         lock.unlock();
+        registry.release(key);
     }
 
     private ReentrantLock getReentrantLock(LockRule lockRule) {
-        String key = lockRule.getKey();
         Boolean fair = lockRule.getFair();
-        return MAP.computeIfAbsent(key, k -> new ReentrantLock(fair));
+        return registry.acquire(lockRule.getKey(), k -> new ReentrantLock(fair));
     }
 }
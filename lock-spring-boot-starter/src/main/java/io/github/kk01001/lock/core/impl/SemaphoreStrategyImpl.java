@@ -1,15 +1,16 @@
 package io.github.kk01001.lock.core.impl;
 
-import io.github.kk01001.lock.core.LockStrategy;
+import io.github.kk01001.lock.config.LockProperties;
+import io.github.kk01001.lock.core.LocalLockStrategy;
 import io.github.kk01001.lock.enums.LockType;
+import io.github.kk01001.lock.exception.LockException;
+import io.github.kk01001.lock.manager.LockRegistry;
 import io.github.kk01001.lock.model.LockRule;
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
 import java.util.concurrent.Semaphore;
 
 /**
@@ -19,21 +20,34 @@ import java.util.concurrent.Semaphore;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class SemaphoreStrategyImpl implements LockStrategy {
+public class SemaphoreStrategyImpl implements LocalLockStrategy {
 
-    private static final Map<String, Semaphore> MAP = new ConcurrentHashMap<>();
+    private final LockRegistry<Semaphore> registry;
+
+    public SemaphoreStrategyImpl(LockProperties lockProperties) {
+        this.registry = new LockRegistry<>(lockProperties.getRegistry());
+    }
 
     @Override
     public LockType getType() {
         return LockType.SEMAPHORE;
     }
 
+    @Override
+    public LockRegistry<Semaphore> getRegistry() {
+        return registry;
+    }
+
     @SneakyThrows
     @Override
     public void lock(LockRule lockRule) {
         Semaphore semaphore = getSemaphore(lockRule);
-        semaphore.acquire();
+        try {
+            semaphore.acquire();
+        } catch (Throwable e) {
+            registry.release(lockRule.getKey());
+            throw e;
+        }
     }
 
     @SneakyThrows
@@ -41,19 +55,32 @@ public class SemaphoreStrategyImpl implements LockStrategy {
     public boolean tryLock(LockRule lockRule) {
         Long timeout = lockRule.getTimeout();
         Semaphore semaphore = getSemaphore(lockRule);
-        return semaphore.tryAcquire(timeout, lockRule.getTimeUnit());
+        boolean acquired = false;
+        try {
+            acquired = semaphore.tryAcquire(timeout, lockRule.getTimeUnit());
+            return acquired;
+        } finally {
+            if (!acquired) {
+                registry.release(lockRule.getKey());
+            }
+        }
     }
 
     @Override
     public void unlock(LockRule lockRule) {
-        Semaphore semaphore = getSemaphore(lockRule);
+        String key = lockRule.getKey();
+        Semaphore semaphore = registry.get(key);
+        if (Objects.isNull(semaphore)) {
+            throw new LockException("semaphore not exist: " + key);
+        }
+        // 释放失败(如当前线程未持有锁)时不减少引用计数, 避免持有中的锁被淘汰
         semaphore.release();
+        registry.release(key);
     }
 
     private Semaphore getSemaphore(LockRule lockRule) {
-        String key = lockRule.getKey();
         Integer permits = lockRule.getPermits();
         Boolean fair = lockRule.getFair();
-        return MAP.computeIfAbsent(key, k -> new Semaphore(permits, fair));
+        return registry.acquire(lockRule.getKey(), k -> new Semaphore(permits, fair));
     }
 }
@@ -0,0 +1,164 @@
+package io.github.kk01001.lock.manager;
+
+import io.github.kk01001.lock.config.LockProperties;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 17:10:00
+ * @description 本地锁注册表
+ * <p>
+ * 按key缓存锁对象, 通过引用计数记录正在持有和等待的次数:
+ * {@link #acquire} 加锁前调用, {@link #release} 释放锁或加锁失败后调用。
+ * 只淘汰引用计数为0的锁, 淘汰条件为空闲超时, 或数量超过上限时最久未使用
+ */
+public class LockRegistry<T> {
+
+    /**
+     * 数量超过上限时, 两次清理的最小间隔(毫秒)
+     */
+    private static final long OVERFLOW_CLEANUP_INTERVAL = 100;
+
+    private final Map<String, LockHolder<T>> holders = new ConcurrentHashMap<>();
+
+    private final int maxSize;
+
+    private final long idleTimeMillis;
+
+    private final long cleanupIntervalMillis;
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    private final AtomicBoolean cleaning = new AtomicBoolean();
+
+    private volatile long lastCleanupTime = System.currentTimeMillis();
+
+    public LockRegistry(LockProperties.Registry properties) {
+        this.maxSize = properties.getMaxSize();
+        this.idleTimeMillis = properties.getIdleTime().toMillis();
+        this.cleanupIntervalMillis = Math.max(OVERFLOW_CLEANUP_INTERVAL, idleTimeMillis / 2);
+    }
+
+    /**
+     * 获取锁对象并增加引用计数
+     */
+    public T acquire(String key, Function<String, T> lockFactory) {
+        LockHolder<T> holder = holders.compute(key, (k, v) -> {
+            if (v == null) {
+                v = new LockHolder<>(lockFactory.apply(k));
+            }
+            v.references++;
+            v.lastAccessTime = System.currentTimeMillis();
+            return v;
+        });
+        cleanUpIfNecessary();
+        return holder.lock;
+    }
+
+    /**
+     * 获取已存在的锁对象, 不改变引用计数
+     */
+    public T get(String key) {
+        LockHolder<T> holder = holders.get(key);
+        return holder == null ? null : holder.lock;
+    }
+
+    /**
+     * 减少引用计数
+     */
+    public void release(String key) {
+        holders.computeIfPresent(key, (k, v) -> {
+            if (v.references > 0) {
+                v.references--;
+            }
+            v.lastAccessTime = System.currentTimeMillis();
+            return v;
+        });
+    }
+
+    /**
+     * 当前锁数量
+     */
+    public int size() {
+        return holders.size();
+    }
+
+    /**
+     * 累计淘汰数量
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private void cleanUpIfNecessary() {
+        long now = System.currentTimeMillis();
+        long elapsed = now - lastCleanupTime;
+        boolean overflow = holders.size() > maxSize && elapsed >= OVERFLOW_CLEANUP_INTERVAL;
+        if (!overflow && elapsed < cleanupIntervalMillis) {
+            return;
+        }
+        if (!cleaning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            cleanUp(now);
+        } finally {
+            lastCleanupTime = now;
+            cleaning.set(false);
+        }
+    }
+
+    private void cleanUp(long now) {
+        // 淘汰空闲超时的锁
+        for (String key : holders.keySet()) {
+            evict(key, holder -> now - holder.lastAccessTime >= idleTimeMillis);
+        }
+
+        int overflow = holders.size() - maxSize;
+        if (overflow <= 0) {
+            return;
+        }
+        // 数量超过上限, 淘汰最久未使用的空闲锁
+        List<String> keys = holders.entrySet().stream()
+                .filter(entry -> entry.getValue().references == 0)
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessTime))
+                .limit(overflow)
+                .map(Map.Entry::getKey)
+                .toList();
+        keys.forEach(key -> evict(key, holder -> true));
+    }
+
+    private void evict(String key, Predicate<LockHolder<T>> predicate) {
+        holders.computeIfPresent(key, (k, v) -> {
+            if (v.references > 0 || !predicate.test(v)) {
+                return v;
+            }
+            evictionCount.increment();
+            return null;
+        });
+    }
+
+    private static final class LockHolder<T> {
+
+        private final T lock;
+
+        /**
+         * 持有和等待的次数, 只在 compute 中修改
+         */
+        private volatile int references;
+
+        private volatile long lastAccessTime;
+
+        private LockHolder(T lock) {
+            this.lock = lock;
+        }
+    }
+}
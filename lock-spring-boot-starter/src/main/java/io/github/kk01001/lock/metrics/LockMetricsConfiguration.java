@@ -0,0 +1,62 @@
+package io.github.kk01001.lock.metrics;
+
+import io.github.kk01001.lock.core.LocalLockStrategy;
+import io.github.kk01001.lock.manager.LockRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 17:40:00
+ * @description 锁指标自动配置
+ * <p>
+ * 在 actuator 创建 MeterRegistry 之后加载
+ */
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"
+})
+@ConditionalOnClass(MeterRegistry.class)
+public class LockMetricsConfiguration {
+
+    /**
+     * 本地锁注册表指标: 锁数量, 淘汰数量
+     */
+    @Bean
+    public MeterBinder lockRegistryMeterBinder(List<LocalLockStrategy> strategyList) {
+        return meterRegistry -> {
+            for (LocalLockStrategy strategy : strategyList) {
+                LockRegistry<?> registry = strategy.getRegistry();
+                Tags tags = Tags.of("type", strategy.getType().name());
+                Gauge.builder("lock.registry.size", registry, LockRegistry::size)
+                        .tags(tags)
+                        .description("本地锁数量")
+                        .register(meterRegistry);
+                FunctionCounter.builder("lock.registry.evictions", registry, LockRegistry::getEvictionCount)
+                        .tags(tags)
+                        .description("本地锁淘汰数量")
+                        .register(meterRegistry);
+            }
+        };
+    }
+
+    /**
+     * 锁Micrometer指标收集器, 未配置 MeterRegistry 时使用全局注册表
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public MicrometerLockMetrics micrometerLockMetrics(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new MicrometerLockMetrics(meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.kk01001.lock.metrics;
+
+import cn.hutool.core.util.StrUtil;
+import io.github.kk01001.lock.core.LockMetrics;
+import io.github.kk01001.lock.model.LockRule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 21:10:00
+ * @description 集成Micrometer的锁指标收集器
+ * <p>
+ * 按 锁类型 + key模式 统计等待耗时, 持有耗时, tryLock失败次数和当前等待线程数;
+ * 持有耗时由释放方传入的加锁时间计算, 收集器本身不保存每次加锁的状态
+ */
+public class MicrometerLockMetrics implements LockMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 锁类型:key模式 -> 指标
+     */
+    private final Map<String, LockMeters> metersMap = new ConcurrentHashMap<>();
+
+    public MicrometerLockMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onWaitStart(LockRule lockRule) {
+        getMeters(lockRule).waiters.incrementAndGet();
+    }
+
+    @Override
+    public void onWaitEnd(LockRule lockRule, long waitNanos, boolean acquired) {
+        LockMeters meters = getMeters(lockRule);
+        meters.waiters.decrementAndGet();
+        if (acquired) {
+            meters.acquireSuccess.record(waitNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+        meters.acquireFailure.record(waitNanos, TimeUnit.NANOSECONDS);
+        meters.failures.increment();
+    }
+
+    @Override
+    public void onUnlock(LockRule lockRule, long holdNanos) {
+        if (holdNanos < 0) {
+            return;
+        }
+        getMeters(lockRule).hold.record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private LockMeters getMeters(LockRule lockRule) {
+        String type = lockRule.getLockType().name();
+        String keyPattern = getKeyPattern(lockRule);
+        return metersMap.computeIfAbsent(type + ":" + keyPattern,
+                k -> new LockMeters(meterRegistry, Tags.of("type", type, "key", keyPattern)));
+    }
+
+    private String getKeyPattern(LockRule lockRule) {
+        if (StrUtil.isNotEmpty(lockRule.getKeyPattern())) {
+            return lockRule.getKeyPattern();
+        }
+        String key = StrUtil.nullToEmpty(lockRule.getKey());
+        int index = key.lastIndexOf(':');
+        return index < 0 ? "*" : key.substring(0, index + 1) + "*";
+    }
+
+    private static final class LockMeters {
+
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        private final Timer acquireSuccess;
+
+        private final Timer acquireFailure;
+
+        private final Timer hold;
+
+        private final Counter failures;
+
+        private LockMeters(MeterRegistry meterRegistry, Tags tags) {
+            Gauge.builder("lock.waiters", waiters, AtomicInteger::get)
+                    .tags(tags)
+                    .description("当前等待锁的线程数")
+                    .register(meterRegistry);
+            this.acquireSuccess = Timer.builder("lock.acquire")
+                    .tags(tags.and("result", "success"))
+                    .description("获取锁耗时")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.acquireFailure = Timer.builder("lock.acquire")
+                    .tags(tags.and("result", "failure"))
+                    .description("获取锁耗时")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.hold = Timer.builder("lock.hold")
+                    .tags(tags)
+                    .description("持有锁耗时")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.failures = Counter.builder("lock.failures")
+                    .tags(tags)
+                    .description("获取锁失败次数")
+                    .register(meterRegistry);
+        }
+    }
+}
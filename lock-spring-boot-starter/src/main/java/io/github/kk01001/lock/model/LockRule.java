@@ -45,6 +45,12 @@ public class LockRule {
      */
     private String key;
 
+    /**
+     * 指标使用的key模式, 避免使用原始key导致指标基数过大
+     * 为空时取key最后一个冒号之前的部分
+     */
+    private String keyPattern;
+
     /**
      * 总的凭证数
      */
@@ -1,6 +1,9 @@
 -- KEYS[1] 代表 Redis 中存储的信号量键
 -- ARGV[1] 代表要增加的信号量值
+-- ARGV[2] 代表释放通知的频道
 
 -- 将 KEYS[1] 对应的值增加 ARGV[1]，并将结果赋值给变量 value
 local value = redis.call('incrby', KEYS[1], ARGV[1]);
-return value
\ No newline at end of file
+-- 通知等待该信号量的线程
+redis.call('publish', ARGV[2], value);
+return value
@@ -0,0 +1,22 @@
+package io.github.kk01001.netty.annotation;
+
+/**
+ * 端点消息处理方法的执行方式
+ */
+public enum ExecutionMode {
+
+    /**
+     * 在Netty EventLoop中直接执行, 处理方法不能有阻塞调用
+     */
+    EVENT_LOOP,
+
+    /**
+     * 每条消息一个虚拟线程, 不保证同一会话的消息顺序
+     */
+    VIRTUAL_THREAD,
+
+    /**
+     * 每个会话一个邮箱, 由虚拟线程依次处理, 保证同一会话的消息顺序
+     */
+    SESSION_ORDERED
+}
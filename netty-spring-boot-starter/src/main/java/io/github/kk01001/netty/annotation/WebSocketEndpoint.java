@@ -20,4 +20,15 @@ public @interface WebSocketEndpoint {
      * 子协议
      */
     String[] subprotocols() default {};
+
+    /**
+     * {@link OnMessage} / {@link OnBinaryMessage} 方法的执行方式, 有阻塞调用时不要使用 EVENT_LOOP
+     */
+    ExecutionMode executionMode() default ExecutionMode.EVENT_LOOP;
+
+    /**
+     * 最大待处理消息数, 超过后丢弃新消息;
+     * VIRTUAL_THREAD 为端点内所有会话的总数, SESSION_ORDERED 为每个会话的邮箱容量
+     */
+    int maxPendingMessages() default 1024;
 }
@@ -16,7 +16,9 @@ import io.github.kk01001.netty.server.NettyWebSocketServer;
 import io.github.kk01001.netty.session.WebSocketSessionManager;
 import io.github.kk01001.netty.trace.MessageTracer;
 import io.github.kk01001.netty.trace.MetricsMessageTracer;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -164,6 +166,18 @@ public class NettyWebSocketAutoConfiguration {
         return new MetricsMessageTracer(registry, properties);
     }
 
+    @Bean
+    public MeterBinder webSocketOutboundMeterBinder(WebSocketSessionManager sessionManager,
+                                                    NettyWebSocketProperties properties) {
+        // 所有会话发送缓冲区待写出字节数
+        return registry -> Gauge.builder("websocket.outbound.pending.bytes",
+                        sessionManager, WebSocketSessionManager::getPendingOutboundBytes)
+                .description("WebSocket发送缓冲区待写出字节数")
+                .tags("path", properties.getPath(),
+                        "port", String.valueOf(properties.getPort()))
+                .register(registry);
+    }
+
     @Bean
     @ConditionalOnProperty(name = "netty.websocket.cluster.enabled", havingValue = "true")
     public WebSocketSessionEventListener webSocketSessionEventListener(WebSocketClusterManager clusterManager) {
@@ -1,5 +1,7 @@
 package io.github.kk01001.netty.config;
 
+import io.github.kk01001.netty.server.TransportType;
+import io.github.kk01001.netty.session.SlowConsumerPolicy;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -74,6 +76,16 @@ public class NettyWebSocketProperties {
      * ServerBootstrap的childOption配置
      */
     private ChannelConfig childOptions = new ChannelConfig();
+
+    /**
+     * 发送缓冲区配置
+     */
+    private WriteBuffer writeBuffer = new WriteBuffer();
+
+    /**
+     * 网络传输配置
+     */
+    private Transport transport = new Transport();
     
     @Data
     public static class Cluster {
@@ -159,6 +171,48 @@ public class NettyWebSocketProperties {
         private String keyPassword;
     }
     
+    @Data
+    public static class Transport {
+        /**
+         * 传输类型, AUTO 依次尝试 io_uring、epoll, 均不可用时使用 NIO
+         */
+        private TransportType type = TransportType.AUTO;
+
+        /**
+         * 是否启用 SO_REUSEPORT 多次绑定同一端口, 仅 epoll / io_uring 生效
+         */
+        private boolean reusePort = false;
+
+        /**
+         * SO_REUSEPORT 绑定次数, 0表示使用boss线程数
+         */
+        private int acceptors = 0;
+
+        /**
+         * epoll 是否使用边缘触发模式
+         */
+        private boolean edgeTriggered = true;
+    }
+
+    @Data
+    public static class WriteBuffer {
+        /**
+         * 低水位(字节), 待发送数据低于该值时恢复可写
+         */
+        private int lowWaterMark = 32 * 1024;
+
+        /**
+         * 高水位(字节), 待发送数据超过该值时不可写
+         */
+        private int highWaterMark = 64 * 1024;
+
+        /**
+         * 不可写时的默认慢消费者策略, 可通过 WebSocketSession#setSlowConsumerPolicy 按会话调整
+         * 默认 BUFFER 不丢弃消息
+         */
+        private SlowConsumerPolicy slowConsumerPolicy = SlowConsumerPolicy.BUFFER;
+    }
+
     @Data
     public static class ChannelConfig {
         /**
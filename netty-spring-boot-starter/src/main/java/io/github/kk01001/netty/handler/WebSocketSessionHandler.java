@@ -54,6 +54,18 @@ public class WebSocketSessionHandler extends ChannelInboundHandlerAdapter {
         }
     }
 
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        // 恢复可写时发送 COALESCE_LATEST 策略缓存的消息
+        if (ctx.channel().isWritable()) {
+            WebSocketSession session = ctx.channel().attr(SESSION_ATTRIBUTE_KEY_ATTR).get();
+            if (session != null) {
+                session.flushPendingMessage();
+            }
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
     private WebSocketSession getWebSocketSession(Channel channel) {
         String sessionId = UUID.randomUUID().toString();
         WebSocketSession session = new WebSocketSession(
@@ -65,6 +77,7 @@ public class WebSocketSessionHandler extends ChannelInboundHandlerAdapter {
                 messageTracer
         );
         session.setUserId(channel.attr(WebSocketAuthHandshakeHandler.USER_ID_ATTR).get());
+        session.setSlowConsumerPolicy(properties.getWriteBuffer().getSlowConsumerPolicy());
         return session;
     }
 }
\ No newline at end of file
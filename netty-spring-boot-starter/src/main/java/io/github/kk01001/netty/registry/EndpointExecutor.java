@@ -0,0 +1,220 @@
+package io.github.kk01001.netty.registry;
+
+import io.github.kk01001.netty.annotation.ExecutionMode;
+import io.github.kk01001.netty.session.WebSocketSession;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 端点消息执行器, 按 {@link ExecutionMode} 在EventLoop或虚拟线程中执行消息处理方法
+ */
+@Slf4j
+public class EndpointExecutor {
+
+    @Getter
+    private final String path;
+
+    @Getter
+    private final ExecutionMode mode;
+
+    private final int maxPendingMessages;
+
+    /**
+     * 虚拟线程执行器, EVENT_LOOP 模式为空
+     */
+    private final Executor executor;
+
+    /**
+     * 拒绝记录, 未启用监控时为空
+     */
+    private final Runnable rejectionRecorder;
+
+    /**
+     * 端点内所有待处理的消息数
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * SESSION_ORDERED 模式下 sessionId -> 邮箱
+     */
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public EndpointExecutor(String path,
+                            ExecutionMode mode,
+                            int maxPendingMessages,
+                            Executor executor,
+                            Runnable rejectionRecorder) {
+        this.path = path;
+        this.mode = mode;
+        this.maxPendingMessages = Math.max(1, maxPendingMessages);
+        this.executor = executor;
+        this.rejectionRecorder = rejectionRecorder;
+    }
+
+    /**
+     * 执行消息处理, 待处理消息数超过上限时丢弃
+     */
+    public void execute(WebSocketSession session, Runnable task) {
+        dispatch(session, task, false);
+    }
+
+    /**
+     * 执行错误处理, 不受待处理消息数限制
+     * 只有 SESSION_ORDERED 模式保证排在该会话已入队的消息之后; VIRTUAL_THREAD 模式可能与处理中的消息并发执行
+     */
+    public void executeError(WebSocketSession session, Runnable task) {
+        dispatch(session, task, true);
+    }
+
+    /**
+     * 执行关闭处理, 不受待处理消息数限制
+     * 只有 SESSION_ORDERED 模式保证排在该会话已入队的消息之后, 并在关闭处理执行后移除邮箱;
+     * VIRTUAL_THREAD 模式可能与处理中的消息并发执行
+     */
+    public void executeClose(WebSocketSession session, Runnable task) {
+        if (mode != ExecutionMode.SESSION_ORDERED) {
+            dispatch(session, task, true);
+            return;
+        }
+        String sessionId = session.getId();
+        Mailbox mailbox = mailboxes.computeIfAbsent(sessionId, Mailbox::new);
+        mailbox.offer(() -> {
+            try {
+                task.run();
+            } finally {
+                mailboxes.remove(sessionId, mailbox);
+            }
+        }, true);
+    }
+
+    private void dispatch(WebSocketSession session, Runnable task, boolean force) {
+        switch (mode) {
+            case VIRTUAL_THREAD -> {
+                if (pending.incrementAndGet() > maxPendingMessages && !force) {
+                    pending.decrementAndGet();
+                    reject(session.getId());
+                    return;
+                }
+                try {
+                    executor.execute(() -> {
+                        try {
+                            task.run();
+                        } finally {
+                            pending.decrementAndGet();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    // 应用关闭后执行器不再接收任务
+                    pending.decrementAndGet();
+                    reject(session.getId());
+                }
+            }
+            case SESSION_ORDERED -> {
+                Mailbox mailbox = mailboxes.computeIfAbsent(session.getId(), Mailbox::new);
+                if (!mailbox.offer(task, force)) {
+                    reject(session.getId());
+                }
+            }
+            default -> task.run();
+        }
+    }
+
+    /**
+     * 待处理的消息数
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    private void reject(String sessionId) {
+        if (rejectionRecorder != null) {
+            rejectionRecorder.run();
+        }
+        log.warn("待处理消息已满或执行器已关闭, 丢弃消息: path={}, sessionId={}, mode={}", path, sessionId, mode);
+    }
+
+    /**
+     * 会话邮箱, 同一时刻最多一个虚拟线程处理, 保证消息顺序
+     */
+    private final class Mailbox implements Runnable {
+
+        private final String sessionId;
+
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Mailbox(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        boolean offer(Runnable task, boolean force) {
+            if (size.incrementAndGet() > maxPendingMessages && !force) {
+                size.decrementAndGet();
+                return false;
+            }
+            pending.incrementAndGet();
+            queue.offer(task);
+            schedule();
+            return true;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Runnable task;
+                while ((task = queue.poll()) != null) {
+                    size.decrementAndGet();
+                    try {
+                        task.run();
+                    } catch (Exception e) {
+                        log.error("处理消息失败: path={}", path, e);
+                    } finally {
+                        pending.decrementAndGet();
+                    }
+                }
+            } finally {
+                // 任务抛出 Error 时也要释放标记, 否则该会话的邮箱不会再被调度
+                scheduled.set(false);
+                // 释放标记前可能有新消息入队
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // 应用关闭后执行器不再接收任务, 丢弃已入队的消息并恢复计数
+                scheduled.set(false);
+                discard();
+            }
+        }
+
+        private void discard() {
+            mailboxes.remove(sessionId, this);
+            Runnable task;
+            while ((task = queue.poll()) != null) {
+                size.decrementAndGet();
+                pending.decrementAndGet();
+                reject(sessionId);
+            }
+        }
+    }
+}
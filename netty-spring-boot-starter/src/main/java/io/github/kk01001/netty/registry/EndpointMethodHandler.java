@@ -12,5 +12,6 @@ public class EndpointMethodHandler {
     private Method onBinaryMessageMethod;
     private Method onCloseMethod;
     private Method onErrorMethod;
+    private EndpointExecutor executor;
 
 }
\ No newline at end of file
@@ -2,7 +2,11 @@ package io.github.kk01001.netty.registry;
 
 import io.github.kk01001.netty.annotation.*;
 import io.github.kk01001.netty.session.WebSocketSession;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.annotation.AnnotatedElementUtils;
@@ -10,12 +14,19 @@ import org.springframework.util.ReflectionUtils;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Slf4j
-public class WebSocketEndpointRegistry implements SmartInitializingSingleton {
+public class WebSocketEndpointRegistry implements SmartInitializingSingleton, DisposableBean {
     
     private final ApplicationContext applicationContext;
     private final Map<String, EndpointMethodHandler> pathHandlers = new ConcurrentHashMap<>();
+
+    /**
+     * 消息处理虚拟线程执行器, 存在非 EVENT_LOOP 端点时创建
+     */
+    private ExecutorService handlerExecutor;
     
     public WebSocketEndpointRegistry(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
@@ -25,6 +36,13 @@ public class WebSocketEndpointRegistry implements SmartInitializingSingleton {
     public void afterSingletonsInstantiated() {
         scanEndpoints();
     }
+
+    @Override
+    public void destroy() {
+        if (handlerExecutor != null) {
+            handlerExecutor.shutdown();
+        }
+    }
     
     /**
      * 扫描WebSocket端点
@@ -49,6 +67,7 @@ public class WebSocketEndpointRegistry implements SmartInitializingSingleton {
     private void registerEndpoint(WebSocketEndpoint endpoint, Object bean, Class<?> beanType) {
         String path = endpoint.path();
         EndpointMethodHandler handler = new EndpointMethodHandler(bean);
+        handler.setExecutor(createExecutor(endpoint));
         
         // 扫描处理方法
         ReflectionUtils.doWithMethods(beanType, method -> {
@@ -66,7 +85,40 @@ public class WebSocketEndpointRegistry implements SmartInitializingSingleton {
         });
         
         pathHandlers.put(path, handler);
-        log.info("注册WebSocket端点: path={}, bean={}", path, beanType.getName());
+        log.info("注册WebSocket端点: path={}, bean={}, executionMode={}",
+                path, beanType.getName(), endpoint.executionMode());
+    }
+
+    /**
+     * 创建端点消息执行器, 启用监控时注册待处理消息数和拒绝数指标
+     */
+    private EndpointExecutor createExecutor(WebSocketEndpoint endpoint) {
+        String path = endpoint.path();
+        ExecutionMode mode = endpoint.executionMode();
+        if (mode == ExecutionMode.EVENT_LOOP) {
+            return new EndpointExecutor(path, mode, endpoint.maxPendingMessages(), null, null);
+        }
+        if (handlerExecutor == null) {
+            handlerExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ws-handler-", 0).factory());
+        }
+        MeterRegistry meterRegistry = applicationContext.getBeanProvider(MeterRegistry.class).getIfAvailable();
+        Runnable rejectionRecorder = null;
+        if (meterRegistry != null) {
+            Counter rejected = Counter.builder("websocket.handler.rejected")
+                    .description("WebSocket待处理消息已满丢弃计数")
+                    .tag("path", path)
+                    .register(meterRegistry);
+            rejectionRecorder = rejected::increment;
+        }
+        EndpointExecutor executor = new EndpointExecutor(
+                path, mode, endpoint.maxPendingMessages(), handlerExecutor, rejectionRecorder);
+        if (meterRegistry != null) {
+            Gauge.builder("websocket.handler.pending", executor, EndpointExecutor::getPendingCount)
+                    .description("WebSocket待处理消息数")
+                    .tag("path", path)
+                    .register(meterRegistry);
+        }
+        return executor;
     }
     
     /**
@@ -90,12 +142,14 @@ public class WebSocketEndpointRegistry implements SmartInitializingSingleton {
     public void handleMessage(WebSocketSession session, String message) {
         EndpointMethodHandler handler = pathHandlers.get(session.getPath());
         if (handler != null && handler.getOnMessageMethod() != null) {
-            try {
-                handler.getOnMessageMethod().invoke(handler.getBean(), session, message);
-            } catch (Exception e) {
-                log.error("处理消息失败: path={}, sessionId={}", 
-                        session.getPath(), session.getId(), e);
-            }
+            handler.getExecutor().execute(session, () -> {
+                try {
+                    handler.getOnMessageMethod().invoke(handler.getBean(), session, message);
+                } catch (Exception e) {
+                    log.error("处理消息失败: path={}, sessionId={}",
+                            session.getPath(), session.getId(), e);
+                }
+            });
         }
     }
 
@@ -104,43 +158,53 @@ public class WebSocketEndpointRegistry implements SmartInitializingSingleton {
      */
     public void handleBinaryMessage(WebSocketSession session, byte[] bytes) {
         EndpointMethodHandler handler = pathHandlers.get(session.getPath());
-        if (handler != null && handler.getOnMessageMethod() != null) {
-            try {
-                handler.getOnBinaryMessageMethod().invoke(handler.getBean(), session, bytes);
-            } catch (Exception e) {
-                log.error("处理消息失败: path={}, sessionId={}",
-                        session.getPath(), session.getId(), e);
-            }
+        if (handler != null && handler.getOnBinaryMessageMethod() != null) {
+            handler.getExecutor().execute(session, () -> {
+                try {
+                    handler.getOnBinaryMessageMethod().invoke(handler.getBean(), session, bytes);
+                } catch (Exception e) {
+                    log.error("处理消息失败: path={}, sessionId={}",
+                            session.getPath(), session.getId(), e);
+                }
+            });
         }
     }
     
     /**
-     * 处理连接关闭
+     * 处理连接关闭, SESSION_ORDERED 模式排在该会话已入队的消息之后执行
      */
     public void handleClose(WebSocketSession session) {
         EndpointMethodHandler handler = pathHandlers.get(session.getPath());
-        if (handler != null && handler.getOnCloseMethod() != null) {
+        if (handler == null) {
+            return;
+        }
+        handler.getExecutor().executeClose(session, () -> {
+            if (handler.getOnCloseMethod() == null) {
+                return;
+            }
             try {
                 handler.getOnCloseMethod().invoke(handler.getBean(), session);
             } catch (Exception e) {
                 log.error("处理连接关闭失败: path={}, sessionId={}", 
                         session.getPath(), session.getId(), e);
             }
-        }
+        });
     }
     
     /**
-     * 处理错误
+     * 处理错误, SESSION_ORDERED 模式排在该会话已入队的消息之后执行
      */
     public void handleError(WebSocketSession session, Throwable error) {
         EndpointMethodHandler handler = pathHandlers.get(session.getPath());
         if (handler != null && handler.getOnErrorMethod() != null) {
-            try {
-                handler.getOnErrorMethod().invoke(handler.getBean(), session, error);
-            } catch (Exception e) {
-                log.error("处理错误失败: path={}, sessionId={}", 
-                        session.getPath(), session.getId(), e);
-            }
+            handler.getExecutor().executeError(session, () -> {
+                try {
+                    handler.getOnErrorMethod().invoke(handler.getBean(), session, error);
+                } catch (Exception e) {
+                    log.error("处理错误失败: path={}, sessionId={}", 
+                            session.getPath(), session.getId(), e);
+                }
+            });
         }
     }
-} 
\ No newline at end of file
+}
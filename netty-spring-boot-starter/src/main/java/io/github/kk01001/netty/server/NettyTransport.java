@@ -0,0 +1,137 @@
+package io.github.kk01001.netty.server;
+
+import io.github.kk01001.netty.config.NettyWebSocketProperties;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollMode;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringChannelOption;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 网络传输, 按配置和平台选择 io_uring / epoll / NIO 的 EventLoopGroup 和 ServerChannel
+ */
+@Slf4j
+public class NettyTransport {
+
+    private static final boolean IO_URING_PRESENT = ClassUtils.isPresent(
+            "io.netty.incubator.channel.uring.IOUring", NettyTransport.class.getClassLoader());
+
+    @Getter
+    private final TransportType type;
+
+    private final NettyWebSocketProperties.Transport config;
+
+    private NettyTransport(TransportType type, NettyWebSocketProperties.Transport config) {
+        this.type = type;
+        this.config = config;
+    }
+
+    /**
+     * 按配置选择传输, 指定的传输不可用时回退到 NIO
+     */
+    public static NettyTransport resolve(NettyWebSocketProperties.Transport config) {
+        TransportType requested = config.getType();
+        TransportType resolved = switch (requested) {
+            case AUTO -> isIoUringAvailable() ? TransportType.IO_URING
+                    : Epoll.isAvailable() ? TransportType.EPOLL : TransportType.NIO;
+            case IO_URING -> isIoUringAvailable() ? TransportType.IO_URING : fallback(requested);
+            case EPOLL -> Epoll.isAvailable() ? TransportType.EPOLL : fallback(requested);
+            case NIO -> TransportType.NIO;
+        };
+        return new NettyTransport(resolved, config);
+    }
+
+    public EventLoopGroup newEventLoopGroup(int threads) {
+        return switch (type) {
+            case IO_URING -> IoUringHolder.newEventLoopGroup(threads);
+            case EPOLL -> new EpollEventLoopGroup(threads);
+            default -> new NioEventLoopGroup(threads);
+        };
+    }
+
+    public Class<? extends ServerChannel> serverChannelClass() {
+        return switch (type) {
+            case IO_URING -> IoUringHolder.serverChannelClass();
+            case EPOLL -> EpollServerSocketChannel.class;
+            default -> NioServerSocketChannel.class;
+        };
+    }
+
+    /**
+     * 是否使用 SO_REUSEPORT 多次绑定同一端口, 仅 epoll / io_uring 支持
+     */
+    public boolean isReusePort() {
+        return config.isReusePort() && type != TransportType.NIO;
+    }
+
+    /**
+     * 绑定次数, 启用 SO_REUSEPORT 时每个acceptor绑定一次, 由内核分发连接
+     *
+     * @param bossThreads boss线程数, 未配置acceptors时使用
+     */
+    public int getAcceptorCount(int bossThreads) {
+        if (!isReusePort()) {
+            return 1;
+        }
+        return Math.max(1, config.getAcceptors() > 0 ? config.getAcceptors() : bossThreads);
+    }
+
+    /**
+     * 应用传输相关选项
+     */
+    public void applyOptions(ServerBootstrap bootstrap) {
+        if (type == TransportType.EPOLL) {
+            EpollMode mode = config.isEdgeTriggered() ? EpollMode.EDGE_TRIGGERED : EpollMode.LEVEL_TRIGGERED;
+            bootstrap.option(EpollChannelOption.EPOLL_MODE, mode)
+                    .childOption(EpollChannelOption.EPOLL_MODE, mode);
+            if (isReusePort()) {
+                bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+            }
+        } else if (type == TransportType.IO_URING && isReusePort()) {
+            IoUringHolder.applyReusePort(bootstrap);
+        }
+    }
+
+    private static boolean isIoUringAvailable() {
+        return IO_URING_PRESENT && IoUringHolder.isAvailable();
+    }
+
+    private static TransportType fallback(TransportType requested) {
+        log.warn("{} 传输不可用, 回退到 NIO", requested);
+        return TransportType.NIO;
+    }
+
+    /**
+     * io_uring 为可选依赖, 单独加载避免未引入时类加载失败
+     */
+    private static final class IoUringHolder {
+
+        static boolean isAvailable() {
+            return IOUring.isAvailable();
+        }
+
+        static EventLoopGroup newEventLoopGroup(int threads) {
+            return new IOUringEventLoopGroup(threads);
+        }
+
+        static Class<? extends ServerChannel> serverChannelClass() {
+            return IOUringServerSocketChannel.class;
+        }
+
+        static void applyReusePort(ServerBootstrap bootstrap) {
+            bootstrap.option(IOUringChannelOption.SO_REUSEPORT, true);
+        }
+    }
+}
@@ -16,9 +16,7 @@ import io.github.kk01001.netty.session.WebSocketSessionManager;
 import io.github.kk01001.netty.trace.MessageTracer;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.*;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.ssl.SslContext;
@@ -35,6 +33,7 @@ import java.io.File;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -52,7 +51,7 @@ public class NettyWebSocketServer implements InitializingBean, DisposableBean {
     private final WebSocketClusterManager webSocketClusterManager;
     private EventLoopGroup bossGroup;
     private EventLoopGroup workerGroup;
-    private Channel serverChannel;
+    private final List<Channel> serverChannels = new CopyOnWriteArrayList<>();
     private SslContext sslContext;
     
     public NettyWebSocketServer(
@@ -108,13 +107,15 @@ public class NettyWebSocketServer implements InitializingBean, DisposableBean {
      * 启动服务器
      */
     public void start() throws Exception {
-        bossGroup = new NioEventLoopGroup(properties.getBossThreads());
-        workerGroup = new NioEventLoopGroup(properties.getWorkerThreads());
+        NettyTransport transport = NettyTransport.resolve(properties.getTransport());
+        int acceptors = transport.getAcceptorCount(properties.getBossThreads());
+        bossGroup = transport.newEventLoopGroup(Math.max(properties.getBossThreads(), acceptors));
+        workerGroup = transport.newEventLoopGroup(properties.getWorkerThreads());
         
         try {
             ServerBootstrap bootstrap = new ServerBootstrap();
             bootstrap.group(bossGroup, workerGroup)
-                    .channel(NioServerSocketChannel.class)
+                    .channel(transport.serverChannelClass())
                     .childHandler(new ChannelInitializer<SocketChannel>() {
                         @Override
                         protected void initChannel(SocketChannel ch) {
@@ -176,6 +177,7 @@ public class NettyWebSocketServer implements InitializingBean, DisposableBean {
             
             // 应用默认选项
             applyDefaultOptions(bootstrap);
+            transport.applyOptions(bootstrap);
             
             // 应用自定义选项
             if (optionCustomizers != null) {
@@ -186,16 +188,20 @@ public class NettyWebSocketServer implements InitializingBean, DisposableBean {
                 }
             }
 
-            // 绑定端口
-            ChannelFuture future = bootstrap.bind(properties.getPort()).sync();
-            serverChannel = future.channel();
-            
-            log.info("WebSocket服务器启动成功: port={}", properties.getPort());
+            // 绑定端口, 启用 SO_REUSEPORT 时绑定多次, 由内核在多个acceptor间分发连接
+            for (int i = 0; i < acceptors; i++) {
+                ChannelFuture future = bootstrap.bind(properties.getPort()).sync();
+                Channel serverChannel = future.channel();
+                serverChannels.add(serverChannel);
+
+                // 等待服务器关闭
+                serverChannel.closeFuture().addListener((ChannelFutureListener) channelFuture -> {
+                    stop();
+                });
+            }
             
-            // 等待服务器关闭
-            serverChannel.closeFuture().addListener((ChannelFutureListener) channelFuture -> {
-                stop();
-            });
+            log.info("WebSocket服务器启动成功: port={}, transport={}, acceptors={}",
+                    properties.getPort(), transport.getType(), acceptors);
             
         } catch (Exception e) {
             log.error("WebSocket服务器启动失败", e);
@@ -214,6 +220,7 @@ public class NettyWebSocketServer implements InitializingBean, DisposableBean {
                 sessionManager,
                 messageTracer
         );
+        session.setSlowConsumerPolicy(properties.getWriteBuffer().getSlowConsumerPolicy());
         sessionManager.addSession(properties.getPath(), session);
         return session;
     }
@@ -226,7 +233,10 @@ public class NettyWebSocketServer implements InitializingBean, DisposableBean {
         bootstrap.childOption(ChannelOption.SO_KEEPALIVE, properties.getChildOptions().isSoKeepalive())
                 .childOption(ChannelOption.TCP_NODELAY, properties.getChildOptions().isTcpNodelay())
                 .childOption(ChannelOption.SO_RCVBUF, properties.getChildOptions().getSoRcvbuf())
-                .childOption(ChannelOption.SO_SNDBUF, properties.getChildOptions().getSoSndbuf());
+                .childOption(ChannelOption.SO_SNDBUF, properties.getChildOptions().getSoSndbuf())
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(
+                        properties.getWriteBuffer().getLowWaterMark(),
+                        properties.getWriteBuffer().getHighWaterMark()));
     }
     
     /**
@@ -234,9 +244,10 @@ public class NettyWebSocketServer implements InitializingBean, DisposableBean {
      */
     public void stop() {
         try {
-            if (serverChannel != null) {
+            for (Channel serverChannel : serverChannels) {
                 serverChannel.close();
             }
+            serverChannels.clear();
             if (bossGroup != null) {
                 bossGroup.shutdownGracefully();
             }
@@ -0,0 +1,27 @@
+package io.github.kk01001.netty.server;
+
+/**
+ * 网络传输类型
+ */
+public enum TransportType {
+
+    /**
+     * 自动选择, 依次尝试 IO_URING、EPOLL, 均不可用时使用 NIO
+     */
+    AUTO,
+
+    /**
+     * JDK NIO, 所有平台可用
+     */
+    NIO,
+
+    /**
+     * Linux epoll
+     */
+    EPOLL,
+
+    /**
+     * Linux io_uring, 需要引入 netty-incubator-transport-native-io_uring
+     */
+    IO_URING
+}
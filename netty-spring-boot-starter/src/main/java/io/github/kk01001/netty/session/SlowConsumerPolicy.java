@@ -0,0 +1,27 @@
+package io.github.kk01001.netty.session;
+
+/**
+ * 慢消费者处理策略, 会话发送缓冲区超过高水位(channel不可写)时生效
+ */
+public enum SlowConsumerPolicy {
+
+    /**
+     * 继续写入发送缓冲区, 不丢弃消息, 与未配置水位时的行为一致
+     */
+    BUFFER,
+
+    /**
+     * 丢弃新消息
+     */
+    DROP,
+
+    /**
+     * 只保留最新一条消息, 可写后发送, 被覆盖的消息计为丢弃
+     */
+    COALESCE_LATEST,
+
+    /**
+     * 断开连接
+     */
+    DISCONNECT
+}
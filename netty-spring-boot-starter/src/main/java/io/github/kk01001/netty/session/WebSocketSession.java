@@ -2,15 +2,19 @@ package io.github.kk01001.netty.session;
 
 import io.github.kk01001.netty.trace.MessageTracer;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelOutboundBuffer;
 import io.netty.handler.codec.http.websocketx.PingWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PongWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Getter
 @Setter
@@ -62,6 +66,17 @@ public class WebSocketSession {
      */
     private String userId;
 
+    /**
+     * 发送缓冲区超过高水位时的处理策略
+     */
+    private volatile SlowConsumerPolicy slowConsumerPolicy = SlowConsumerPolicy.BUFFER;
+
+    /**
+     * COALESCE_LATEST 策略下等待可写后发送的最新消息
+     */
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<String> pendingMessage = new AtomicReference<>();
+
     private final MessageTracer messageTracer;
 
     public WebSocketSession(String id,
@@ -83,12 +98,93 @@ public class WebSocketSession {
      * 发送消息
      */
     public void sendMessage(String message) {
-        if (isActive()) {
-            messageTracer.traceSend(this, message);
-            channel.writeAndFlush(new TextWebSocketFrame(message));
-            updateLastActiveTime();
-        } else {
+        if (!isActive()) {
             log.warn("Channel已关闭，无法发送消息: sessionId={}", id);
+            return;
+        }
+        if (isBlocked()) {
+            onUnwritable(message);
+            return;
+        }
+        messageTracer.traceSend(this, message);
+        channel.writeAndFlush(new TextWebSocketFrame(message));
+        updateLastActiveTime();
+    }
+
+    /**
+     * 写入已编码的帧, 不刷新, 在channel所在EventLoop中调用, 由调用方统一flush
+     */
+    void writeFrame(WebSocketFrame frame, String message) {
+        if (isBlocked()) {
+            frame.release();
+            onUnwritable(message);
+            return;
+        }
+        messageTracer.traceSend(this, message);
+        channel.write(frame, channel.voidPromise());
+        updateLastActiveTime();
+    }
+
+    /**
+     * 发送 COALESCE_LATEST 策略下缓存的消息, channel恢复可写时调用
+     * 在channel所在EventLoop中执行, 仍不可写时等待下次可写事件
+     */
+    public void flushPendingMessage() {
+        if (!channel.eventLoop().inEventLoop()) {
+            channel.eventLoop().execute(this::flushPendingMessage);
+            return;
+        }
+        if (!channel.isWritable()) {
+            return;
+        }
+        String message = pendingMessage.getAndSet(null);
+        if (message == null || !isActive()) {
+            return;
+        }
+        messageTracer.traceSend(this, message);
+        channel.writeAndFlush(new TextWebSocketFrame(message));
+        updateLastActiveTime();
+    }
+
+    /**
+     * 发送缓冲区中待写出的字节数
+     */
+    public long getPendingOutboundBytes() {
+        ChannelOutboundBuffer buffer = channel.unsafe().outboundBuffer();
+        return buffer != null ? buffer.totalPendingWriteBytes() : 0L;
+    }
+
+    /**
+     * 是否不能直接写出
+     * COALESCE_LATEST 策略下存在待发送消息时也不能直接写出, 否则待发送的旧消息会在新消息之后发送
+     */
+    private boolean isBlocked() {
+        return switch (slowConsumerPolicy) {
+            case BUFFER -> false;
+            case COALESCE_LATEST -> pendingMessage.get() != null || !channel.isWritable();
+            default -> !channel.isWritable();
+        };
+    }
+
+    /**
+     * channel不可写时按慢消费者策略处理
+     */
+    private void onUnwritable(String message) {
+        SlowConsumerPolicy policy = slowConsumerPolicy;
+        switch (policy) {
+            case COALESCE_LATEST -> {
+                if (pendingMessage.getAndSet(message) != null) {
+                    messageTracer.traceDrop(this, policy);
+                }
+                // 设置期间可能已恢复可写, 不再有可写事件触发, 在EventLoop中检查并发送
+                flushPendingMessage();
+            }
+            case DISCONNECT -> {
+                messageTracer.traceDrop(this, policy);
+                log.warn("发送缓冲区已满, 断开慢消费者: sessionId={}, pendingBytes={}", id, getPendingOutboundBytes());
+                close();
+            }
+            default -> messageTracer.traceDrop(this, policy);
         }
     }
 
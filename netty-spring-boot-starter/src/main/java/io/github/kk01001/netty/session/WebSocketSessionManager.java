@@ -4,14 +4,22 @@ import io.github.kk01001.netty.config.NettyWebSocketProperties;
 import io.github.kk01001.netty.event.WebSocketMessageEvent;
 import io.github.kk01001.netty.event.WebSocketSessionEvent;
 import io.github.kk01001.netty.message.MessageDispatcher;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.util.StringUtils;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
@@ -94,17 +102,57 @@ public class WebSocketSessionManager implements MessageDispatcher {
             return;
         }
         Map<String, WebSocketSession> pathSessions = sessions.get(path);
-        if (pathSessions != null) {
-            pathSessions.values().stream()
-                    .filter(WebSocketSession::isActive)
-                    .filter(filter)
-                    .forEach(session -> {
-                        try {
-                            session.sendMessage(message);
-                        } catch (Exception e) {
-                            log.error("广播消息失败: sessionId={}", session.getId(), e);
-                        }
-                    });
+        if (pathSessions == null || pathSessions.isEmpty()) {
+            return;
+        }
+        // 按EventLoop分组, 每个EventLoop只提交一次任务
+        Map<EventLoop, List<WebSocketSession>> groups = new HashMap<>();
+        for (WebSocketSession session : pathSessions.values()) {
+            if (session.isActive() && filter.test(session)) {
+                groups.computeIfAbsent(session.getChannel().eventLoop(), k -> new ArrayList<>()).add(session);
+            }
+        }
+        if (groups.isEmpty()) {
+            return;
+        }
+        // 消息只编码一次, 各会话写入共享内容的 retainedDuplicate
+        TextWebSocketFrame frame = new TextWebSocketFrame(ByteBufUtil.writeUtf8(ByteBufAllocator.DEFAULT, message));
+        try {
+            groups.forEach((eventLoop, group) -> {
+                TextWebSocketFrame loopFrame = frame.retain();
+                if (eventLoop.inEventLoop()) {
+                    writeGroup(group, message, loopFrame);
+                    return;
+                }
+                try {
+                    eventLoop.execute(() -> writeGroup(group, message, loopFrame));
+                } catch (RejectedExecutionException e) {
+                    loopFrame.release();
+                    log.warn("EventLoop已关闭, 广播消息失败: sessions={}", group.size());
+                }
+            });
+        } finally {
+            frame.release();
+        }
+    }
+
+    /**
+     * 在EventLoop中写入同组会话, 全部写入后再逐个flush
+     */
+    private void writeGroup(List<WebSocketSession> group, String message, TextWebSocketFrame frame) {
+        try {
+            for (WebSocketSession session : group) {
+                try {
+                    session.writeFrame(frame.retainedDuplicate(), message);
+                } catch (Exception e) {
+                    log.error("广播消息失败: sessionId={}", session.getId(), e);
+                }
+            }
+            for (WebSocketSession session : group) {
+                session.getChannel().flush();
+            }
+        } finally {
+            frame.release();
         }
     }
 
@@ -130,6 +178,19 @@ public class WebSocketSessionManager implements MessageDispatcher {
         return pathSessions != null ? pathSessions.size() : 0;
     }
     
+    /**
+     * 所有会话发送缓冲区中待写出的字节数
+     */
+    public long getPendingOutboundBytes() {
+        long total = 0;
+        for (Map<String, WebSocketSession> pathSessions : sessions.values()) {
+            for (WebSocketSession session : pathSessions.values()) {
+                total += session.getPendingOutboundBytes();
+            }
+        }
+        return total;
+    }
+
     /**
      * 获取指定会话
      */
@@ -1,5 +1,6 @@
 package io.github.kk01001.netty.trace;
 
+import io.github.kk01001.netty.session.SlowConsumerPolicy;
 import io.github.kk01001.netty.session.WebSocketSession;
 import io.micrometer.core.instrument.Timer;
 
@@ -18,6 +19,12 @@ public interface MessageTracer {
      */
     void traceReceive(WebSocketSession session, String message);
 
+    /**
+     * 记录因发送缓冲区已满被丢弃的消息
+     */
+    default void traceDrop(WebSocketSession session, SlowConsumerPolicy policy) {
+    }
+
     /**
      * 记录错误
      */
@@ -1,6 +1,7 @@
 package io.github.kk01001.netty.trace;
 
 import io.github.kk01001.netty.config.NettyWebSocketProperties;
+import io.github.kk01001.netty.session.SlowConsumerPolicy;
 import io.github.kk01001.netty.session.WebSocketSession;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -46,6 +47,18 @@ public class MetricsMessageTracer implements MessageTracer {
         log.debug("接收消息: sessionId={}, message={}", session.getId(), message);
     }
 
+    @Override
+    public void traceDrop(WebSocketSession session, SlowConsumerPolicy policy) {
+        Counter.builder("websocket.messages.dropped")
+                .description("WebSocket发送缓冲区已满丢弃消息计数")
+                .tags("path", properties.getPath(),
+                     "port", String.valueOf(properties.getPort()),
+                     "policy", policy.name())
+                .register(registry)
+                .increment();
+        log.debug("丢弃消息: sessionId={}, policy={}", session.getId(), policy);
+    }
+
     @Override
     public void traceError(WebSocketSession session, Throwable error) {
         createCounter("websocket.errors", "WebSocket错误计数").increment();
@@ -0,0 +1,97 @@
+package io.github.kk01001.netty.server;
+
+import io.github.kk01001.netty.config.NettyWebSocketProperties;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.incubator.channel.uring.IOUring;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 传输选择: 按平台可用性选择 io_uring / epoll, 不可用时回退到 NIO
+ */
+class NettyTransportTest {
+
+    @Test
+    void nioIsAlwaysAvailable() {
+        NettyTransport transport = NettyTransport.resolve(transport(TransportType.NIO, true));
+
+        assertThat(transport.getType()).isEqualTo(TransportType.NIO);
+        assertThat(transport.serverChannelClass()).isEqualTo(NioServerSocketChannel.class);
+        // NIO 不支持 SO_REUSEPORT, 只绑定一次
+        assertThat(transport.isReusePort()).isFalse();
+        assertThat(transport.getAcceptorCount(4)).isEqualTo(1);
+    }
+
+    @Test
+    void epollFallsBackToNioWhenUnavailable() {
+        NettyTransport transport = NettyTransport.resolve(transport(TransportType.EPOLL, false));
+
+        assertThat(transport.getType()).isEqualTo(Epoll.isAvailable() ? TransportType.EPOLL : TransportType.NIO);
+    }
+
+    @Test
+    void ioUringFallsBackToNioWhenUnavailable() {
+        NettyTransport transport = NettyTransport.resolve(transport(TransportType.IO_URING, false));
+
+        assertThat(transport.getType()).isEqualTo(IOUring.isAvailable() ? TransportType.IO_URING : TransportType.NIO);
+    }
+
+    @Test
+    void autoPrefersIoUringThenEpoll() {
+        NettyTransport transport = NettyTransport.resolve(transport(TransportType.AUTO, false));
+
+        TransportType expected = IOUring.isAvailable() ? TransportType.IO_URING
+                : Epoll.isAvailable() ? TransportType.EPOLL : TransportType.NIO;
+        assertThat(transport.getType()).isEqualTo(expected);
+    }
+
+    @Test
+    void nioEventLoopGroupAndOptions() {
+        NettyTransport transport = NettyTransport.resolve(transport(TransportType.NIO, false));
+        EventLoopGroup group = transport.newEventLoopGroup(1);
+        try {
+            assertThat(group).isInstanceOf(NioEventLoopGroup.class);
+        } finally {
+            group.shutdownGracefully();
+        }
+
+        ServerBootstrap bootstrap = new ServerBootstrap();
+        transport.applyOptions(bootstrap);
+        assertThat(bootstrap.config().options()).isEmpty();
+    }
+
+    @Test
+    void epollReusePortBindsPerAcceptor() {
+        assumeTrue(Epoll.isAvailable(), "epoll 不可用");
+        NettyWebSocketProperties.Transport config = transport(TransportType.EPOLL, true);
+        NettyTransport transport = NettyTransport.resolve(config);
+
+        assertThat(transport.serverChannelClass()).isEqualTo(EpollServerSocketChannel.class);
+        assertThat(transport.isReusePort()).isTrue();
+        assertThat(transport.getAcceptorCount(4)).isEqualTo(4);
+        config.setAcceptors(2);
+        assertThat(transport.getAcceptorCount(4)).isEqualTo(2);
+
+        EventLoopGroup group = transport.newEventLoopGroup(1);
+        try {
+            assertThat(group).isInstanceOf(EpollEventLoopGroup.class);
+        } finally {
+            group.shutdownGracefully();
+        }
+    }
+
+    private static NettyWebSocketProperties.Transport transport(TransportType type, boolean reusePort) {
+        NettyWebSocketProperties.Transport config = new NettyWebSocketProperties.Transport();
+        config.setType(type);
+        config.setReusePort(reusePort);
+        return config;
+    }
+}
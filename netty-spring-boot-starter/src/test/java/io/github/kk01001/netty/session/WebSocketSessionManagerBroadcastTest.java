@@ -0,0 +1,152 @@
+package io.github.kk01001.netty.session;
+
+import io.github.kk01001.netty.config.NettyWebSocketProperties;
+import io.github.kk01001.netty.trace.MessageTracer;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 本地广播: 消息只编码一次, 各会话共享内容, 同一EventLoop写完后逐个flush
+ */
+class WebSocketSessionManagerBroadcastTest {
+
+    private static final String PATH = "/ws";
+
+    private final WebSocketSessionManager manager = new WebSocketSessionManager(
+            mock(ScheduledExecutorService.class), new NettyWebSocketProperties(), event -> {
+    });
+
+    private final MessageTracer messageTracer = mock(MessageTracer.class);
+
+    private final List<EmbeddedChannel> channels = new ArrayList<>();
+
+    private final List<TextWebSocketFrame> frames = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        frames.forEach(TextWebSocketFrame::release);
+        channels.forEach(EmbeddedChannel::finishAndReleaseAll);
+    }
+
+    @Test
+    void encodesOnceAndSharesContent() {
+        for (int i = 0; i < 3; i++) {
+            addSession("s" + i, new FlushCounter());
+        }
+
+        manager.broadcastLocal(PATH, "hello", session -> true);
+
+        for (EmbeddedChannel channel : channels) {
+            frames.add(channel.readOutbound());
+        }
+        ByteBuf shared = frames.get(0).content().unwrap();
+        assertThat(frames).allSatisfy(frame -> {
+            assertThat(frame.text()).isEqualTo("hello");
+            assertThat(frame.content().unwrap()).isSameAs(shared);
+        });
+        // 广播方已释放自己的引用, 只剩每个会话一份
+        assertThat(shared.refCnt()).isEqualTo(3);
+
+        frames.forEach(TextWebSocketFrame::release);
+        frames.clear();
+        assertThat(shared.refCnt()).isZero();
+    }
+
+    @Test
+    void flushesEachSessionOnce() {
+        List<FlushCounter> counters = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            FlushCounter counter = new FlushCounter();
+            counters.add(counter);
+            addSession("s" + i, counter);
+        }
+
+        manager.broadcastLocal(PATH, "hello", session -> true);
+
+        assertThat(counters).allSatisfy(counter -> {
+            assertThat(counter.writes).isEqualTo(1);
+            assertThat(counter.flushes).isEqualTo(1);
+            assertThat(counter.flushedAfterAllWrites).isTrue();
+        });
+        channels.forEach(channel -> frames.add(channel.readOutbound()));
+    }
+
+    @Test
+    void skipsFilteredAndInactiveSessions() {
+        addSession("keep", new FlushCounter());
+        addSession("filtered", new FlushCounter());
+        WebSocketSession closed = addSession("closed", new FlushCounter());
+        closed.getChannel().close();
+
+        manager.broadcastLocal(PATH, "hello", session -> !"filtered".equals(session.getId()));
+
+        TextWebSocketFrame frame = channels.get(0).readOutbound();
+        frames.add(frame);
+        assertThat(frame.text()).isEqualTo("hello");
+        assertThat((Object) channels.get(1).readOutbound()).isNull();
+        assertThat((Object) channels.get(2).readOutbound()).isNull();
+        assertThat(frame.content().unwrap().refCnt()).isEqualTo(1);
+    }
+
+    @Test
+    void droppedFramesAreReleased() {
+        addSession("writable", new FlushCounter());
+        WebSocketSession blocked = addSession("blocked", new FlushCounter());
+        blocked.setSlowConsumerPolicy(SlowConsumerPolicy.DROP);
+        blocked.getChannel().unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+
+        manager.broadcastLocal(PATH, "hello", session -> true);
+
+        TextWebSocketFrame frame = channels.get(0).readOutbound();
+        frames.add(frame);
+        assertThat((Object) channels.get(1).readOutbound()).isNull();
+        // 被丢弃会话的副本已释放
+        assertThat(frame.content().unwrap().refCnt()).isEqualTo(1);
+    }
+
+    private WebSocketSession addSession(String id, FlushCounter counter) {
+        EmbeddedChannel channel = new EmbeddedChannel(counter);
+        channels.add(channel);
+        WebSocketSession session = new WebSocketSession(id, channel, PATH, PATH, manager, messageTracer);
+        manager.addSession(PATH, session);
+        return session;
+    }
+
+    /**
+     * 记录写入和flush次数
+     */
+    private static class FlushCounter extends ChannelOutboundHandlerAdapter {
+
+        private int writes;
+
+        private int flushes;
+
+        private boolean flushedAfterAllWrites;
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            writes++;
+            ctx.write(msg, promise);
+        }
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            flushes++;
+            flushedAfterAllWrites = writes > 0;
+            ctx.flush();
+        }
+    }
+}
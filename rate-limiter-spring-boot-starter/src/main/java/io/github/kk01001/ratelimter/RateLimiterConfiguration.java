@@ -1,5 +1,7 @@
 package io.github.kk01001.ratelimter;
 
+import io.github.kk01001.ratelimter.config.RateLimiterProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,5 +12,6 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration
 @ComponentScan("io.github.kk01001.ratelimter")
+@EnableConfigurationProperties(RateLimiterProperties.class)
 public class RateLimiterConfiguration {
 }
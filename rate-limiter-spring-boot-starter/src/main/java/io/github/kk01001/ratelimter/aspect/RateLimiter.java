@@ -48,6 +48,12 @@ public @interface RateLimiter {
      */
     int windowTime() default 1;
 
+    /**
+     * 滑动窗口计数算法:
+     * 子窗口数量, 越大越精确
+     */
+    int windowBuckets() default 10;
+
     /**
      * 令牌桶算法:
      * 是桶的容量（最大令牌数）
@@ -66,6 +72,18 @@ public @interface RateLimiter {
      */
     int permits() default 1;
 
+    /**
+     * 令牌租约:
+     * 每次从 redis 预取的令牌数
+     */
+    int leaseSize() default 10;
+
+    /**
+     * 令牌租约:
+     * 租约有效期, 单位为毫秒
+     */
+    int leaseTime() default 1000;
+
     /**
      * 最大请求数 el
      */
@@ -1,22 +1,19 @@
 package io.github.kk01001.ratelimter.aspect;
 
 import cn.hutool.core.util.StrUtil;
+import io.github.kk01001.expression.MethodExpressionEvaluator;
 import io.github.kk01001.ratelimter.core.RateLimiterFactory;
 import io.github.kk01001.ratelimter.exception.RateLimitException;
 import io.github.kk01001.ratelimter.model.FlowRule;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.reflect.CodeSignature;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.Expression;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
-import org.springframework.util.Assert;
 
 import java.util.Objects;
 
@@ -33,7 +30,7 @@ public class RateLimiterAspect {
 
     private final RateLimiterFactory rateLimiterFactory;
 
-    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private final MethodExpressionEvaluator evaluator = new MethodExpressionEvaluator();
 
     @Autowired
     public RateLimiterAspect(ApplicationContext applicationContext, RateLimiterFactory rateLimiterFactory) {
@@ -49,9 +46,10 @@ public class RateLimiterAspect {
         }
 
         // 创建SpEL上下文
-        EvaluationContext context = getEvaluationContext(joinPoint);
+        EvaluationContext context = evaluator.createEvaluationContext(joinPoint, beanFactoryResolver);
+        AnnotatedElementKey methodKey = evaluator.getMethodKey(joinPoint);
 
-        FlowRule flowRule = buildRule(rateLimiter, context);
+        FlowRule flowRule = buildRule(rateLimiter, methodKey, context);
 
         boolean access = rateLimiterFactory.tryAccess(flowRule);
         if (!access) {
@@ -61,9 +59,9 @@ public class RateLimiterAspect {
         return joinPoint.proceed();
     }
 
-    private FlowRule buildRule(RateLimiter rateLimiter, EvaluationContext context) {
+    private FlowRule buildRule(RateLimiter rateLimiter, AnnotatedElementKey methodKey, EvaluationContext context) {
         String ruledFunction = rateLimiter.ruleFunction();
-        FlowRule flowRule = parseExpression(ruledFunction, context, FlowRule.class);
+        FlowRule flowRule = evaluator.getValue(ruledFunction, methodKey, context, FlowRule.class);
         if (Objects.nonNull(flowRule)) {
             return flowRule;
         }
@@ -72,12 +70,15 @@ public class RateLimiterAspect {
                 .enable(rateLimiter.enable())
                 .rateLimiterType(rateLimiter.type())
                 .redisClientType(rateLimiter.redisClientType())
-                .maxRequests(getValue(rateLimiter.maxRequests(), parseExpression(rateLimiter.maxRequestsFunction(), context, Integer.class)))
-                .windowTime(getValue(rateLimiter.windowTime(), parseExpression(rateLimiter.windowTimeFunction(), context, Integer.class)))
-                .bucketCapacity(getValue(rateLimiter.bucketCapacity(), parseExpression(rateLimiter.bucketCapacityFunction(), context, Integer.class)))
-                .tokenRate(getValue(rateLimiter.tokenRate(), parseExpression(rateLimiter.tokenRateFunction(), context, Integer.class)))
-                .permits(getValue(rateLimiter.permits(), parseExpression(rateLimiter.permitsFunction(), context, Integer.class)))
-                .key(parseExpression(rateLimiter.key(), context, String.class))
+                .maxRequests(getValue(rateLimiter.maxRequests(), evaluator.getValue(rateLimiter.maxRequestsFunction(), methodKey, context, Integer.class)))
+                .windowTime(getValue(rateLimiter.windowTime(), evaluator.getValue(rateLimiter.windowTimeFunction(), methodKey, context, Integer.class)))
+                .windowBuckets(rateLimiter.windowBuckets())
+                .bucketCapacity(getValue(rateLimiter.bucketCapacity(), evaluator.getValue(rateLimiter.bucketCapacityFunction(), methodKey, context, Integer.class)))
+                .tokenRate(getValue(rateLimiter.tokenRate(), evaluator.getValue(rateLimiter.tokenRateFunction(), methodKey, context, Integer.class)))
+                .permits(getValue(rateLimiter.permits(), evaluator.getValue(rateLimiter.permitsFunction(), methodKey, context, Integer.class)))
+                .leaseSize(rateLimiter.leaseSize())
+                .leaseTime(rateLimiter.leaseTime())
+                .key(evaluator.getValue(rateLimiter.key(), methodKey, context, String.class))
                 .build();
     }
 
@@ -85,31 +86,4 @@ public class RateLimiterAspect {
         return Objects.isNull(valueFunction) ? value : valueFunction;
     }
 
-    /**
-     * 解析SpEL表达式
-     */
-    private <T> T parseExpression(String spEl, EvaluationContext context, Class<T> returnClassType) {
-        if (StrUtil.isEmpty(spEl)) {
-            return null;
-        }
-        // 解析SpEL表达式
-        Expression expression = parser.parseExpression(spEl);
-        return expression.getValue(context, returnClassType);
-    }
-
-    private EvaluationContext getEvaluationContext(ProceedingJoinPoint joinPoint) {
-        StandardEvaluationContext context = new StandardEvaluationContext();
-        // 将方法的参数名和值添加到SpEL上下文中
-        Object[] args = joinPoint.getArgs();
-        String[] paramNames = ((CodeSignature) joinPoint.getSignature()).getParameterNames();
-
-        Assert.notNull(paramNames, "paramNames is null, compiler code, please add -parameters");
-
-        for (int i = 0; i < paramNames.length; i++) {
-            context.setVariable(paramNames[i], args[i]);
-        }
-        context.setBeanResolver(beanFactoryResolver);
-        return context;
-    }
-
 }
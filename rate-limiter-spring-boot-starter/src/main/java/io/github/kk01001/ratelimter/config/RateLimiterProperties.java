@@ -0,0 +1,71 @@
+package io.github.kk01001.ratelimter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 14:02:00
+ * @description 限流配置属性
+ */
+@Data
+@ConfigurationProperties(prefix = "rate-limiter")
+public class RateLimiterProperties {
+
+    /**
+     * redis lua 脚本批量执行配置
+     */
+    private Batch batch = new Batch();
+
+    /**
+     * 本地限流器注册表配置
+     */
+    private Local local = new Local();
+
+    @Data
+    public static class Batch {
+
+        /**
+         * 是否开启批量执行, 仅对 REDISSON 客户端生效
+         * 开启后, 并发的 tryAccess 在一个时间窗口内合并为一次 pipeline 请求
+         */
+        private Boolean enabled = false;
+
+        /**
+         * 合并等待窗口
+         */
+        private Duration window = Duration.ofNanos(200_000);
+
+        /**
+         * 单次合并最大请求数
+         */
+        private Integer maxBatchSize = 64;
+
+        /**
+         * 等待队列容量, 队列满时直接执行
+         */
+        private Integer queueCapacity = 4096;
+
+        /**
+         * 调用线程等待合并结果的超时时间, 超时后调用失败;
+         * 未配置时使用 redisson 的 timeout * (retryAttempts + 1) 加上合并窗口
+         */
+        private Duration responseTimeout;
+    }
+
+    @Data
+    public static class Local {
+
+        /**
+         * 最大限流器数量, 超过后淘汰最久未使用的限流器
+         */
+        private Integer maxSize = 10000;
+
+        /**
+         * 空闲过期时间, 超过该时间未访问的限流器会被淘汰
+         */
+        private Duration idleTime = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.kk01001.ratelimter.core.impl;
+
+import io.github.kk01001.ratelimter.config.RateLimiterProperties;
+import io.github.kk01001.ratelimter.model.FlowRule;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 20:05:00
+ * @description 本地令牌桶/漏桶
+ * <p>
+ * 基于 GCRA(通用信元速率算法) 实现, 状态只有一个"理论到达时间"(纳秒):
+ * 桶内水量 = (理论到达时间 - 当前时间) / 单位间隔, 单位间隔 = 1s / tokenRate;
+ * 水量 + permits 不超过 bucketCapacity 时放行, 并将理论到达时间推后 permits 个单位间隔。
+ * 令牌桶剩余令牌数 = bucketCapacity - 水量, 两者判定条件等价
+ */
+public abstract class AbstractLocalBucketRateLimiterStrategy extends AbstractLocalRateLimiterStrategy {
+
+    private static final long ONE_SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    protected AbstractLocalBucketRateLimiterStrategy(RateLimiterProperties properties) {
+        super(properties, Long.MIN_VALUE);
+    }
+
+    @Override
+    protected boolean tryAccess(AtomicLong state, FlowRule flowRule, int permits) {
+        long interval = ONE_SECOND_NANOS / Math.max(1, flowRule.getTokenRate());
+        long tolerance = interval * flowRule.getBucketCapacity();
+        long increment = interval * permits;
+
+        while (true) {
+            long now = System.nanoTime();
+            long current = state.get();
+            long next = Math.max(current, now) + increment;
+            if (next - now > tolerance) {
+                return false;
+            }
+            if (state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.kk01001.ratelimter.core.impl;
+
+import io.github.kk01001.ratelimter.config.RateLimiterProperties;
+import io.github.kk01001.ratelimter.core.RateLimiterStrategy;
+import io.github.kk01001.ratelimter.manager.LocalRateLimiterRegistry;
+import io.github.kk01001.ratelimter.model.FlowRule;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 19:30:00
+ * @description 本地限流
+ * <p>
+ * 每个key的状态编码在一个 long 中, 通过 CAS 无锁更新; 限流参数每次从 {@link FlowRule} 读取, 规则变更立即生效
+ */
+public abstract class AbstractLocalRateLimiterStrategy implements RateLimiterStrategy {
+
+    private final LocalRateLimiterRegistry<AtomicLong> registry;
+
+    protected AbstractLocalRateLimiterStrategy(RateLimiterProperties properties, long initialValue) {
+        this.registry = new LocalRateLimiterRegistry<>(properties.getLocal(), () -> new AtomicLong(initialValue));
+    }
+
+    @Override
+    public boolean tryAccess(FlowRule flowRule) {
+        int permits = Math.max(1, Objects.requireNonNullElse(flowRule.getPermits(), 1));
+        return registry.tryAccess(flowRule.getKey(), state -> tryAccess(state, flowRule, permits));
+    }
+
+    public LocalRateLimiterRegistry<AtomicLong> getRegistry() {
+        return registry;
+    }
+
+    protected abstract boolean tryAccess(AtomicLong state, FlowRule flowRule, int permits);
+}
@@ -2,8 +2,10 @@ package io.github.kk01001.ratelimter.core.impl;
 
 import cn.hutool.core.collection.ListUtil;
 import cn.hutool.core.lang.TypeReference;
+import cn.hutool.core.util.StrUtil;
 import cn.hutool.extra.spring.SpringUtil;
 import io.github.kk01001.ratelimter.enums.RedisClientType;
+import io.github.kk01001.ratelimter.manager.RedissonScriptBatcher;
 import io.github.kk01001.ratelimter.model.FlowRule;
 import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
@@ -21,34 +23,104 @@ import java.util.Objects;
  */
 public abstract class AbstractRedisRateLimiterStrategy {
 
+    private static final String NO_SCRIPT_ERROR = "NOSCRIPT";
+
+    /**
+     * redisson 脚本sha, 首次使用时 SCRIPT LOAD, 之后通过 EVALSHA 执行
+     */
+    private volatile String scriptSha;
+
+    /**
+     * redisTemplate 脚本, 只创建一次; 执行时优先 EVALSHA, NOSCRIPT 时回退为 EVAL
+     */
+    private volatile DefaultRedisScript<Object> redisScript;
+
+    /**
+     * 脚本合并执行器, 首次使用时获取, 避免每次调用查找bean
+     */
+    private volatile RedissonScriptBatcher scriptBatcher;
+
     public boolean tryAccess(FlowRule flowRule, Object... values) {
+        return getResult(execute(flowRule, values));
+    }
+
+    /**
+     * 执行脚本, 返回脚本原始结果
+     */
+    protected Object execute(FlowRule flowRule, Object... values) {
         RedisClientType redisClientType = flowRule.getRedisClientType();
         if (RedisClientType.REDISSON.equals(redisClientType)) {
-            return getResult(executeRedisson(ListUtil.of(flowRule.getKey()), values));
+            return executeRedisson(ListUtil.of(flowRule.getKey()), values);
         }
-        return getResult(executeRedisTemplate(ListUtil.of(flowRule.getKey()), values));
+        return executeRedisTemplate(ListUtil.of(flowRule.getKey()), values);
     }
 
     private Object executeRedisson(List<Object> keys, Object... values) {
         RedissonClient redissonClient = getRedissonClient();
         Assert.notNull(redissonClient, "Bean[redissonClient] is not exist");
 
+        String sha = getScriptSha(redissonClient);
+        try {
+            RedissonScriptBatcher batcher = getScriptBatcher();
+            if (Objects.nonNull(batcher) && batcher.isEnabled()) {
+                return batcher.evalSha(sha, keys, values);
+            }
+            return evalSha(redissonClient, sha, keys, values);
+        } catch (RuntimeException e) {
+            if (!isNoScriptError(e)) {
+                throw e;
+            }
+            // redis 重启或 SCRIPT FLUSH 后脚本缓存丢失, 重新加载后再执行
+            scriptSha = null;
+            return evalSha(redissonClient, getScriptSha(redissonClient), keys, values);
+        }
+    }
+
+    private Object evalSha(RedissonClient redissonClient, String sha, List<Object> keys, Object... values) {
         RScript script = redissonClient.getScript();
-        return script.eval(RScript.Mode.READ_WRITE,
-                getScript(),
+        return script.evalSha(RScript.Mode.READ_WRITE,
+                sha,
                 RScript.ReturnType.VALUE,
                 keys,
                 values);
     }
 
+    private String getScriptSha(RedissonClient redissonClient) {
+        String sha = scriptSha;
+        if (Objects.isNull(sha)) {
+            sha = redissonClient.getScript().scriptLoad(getScript());
+            scriptSha = sha;
+        }
+        return sha;
+    }
+
+    private boolean isNoScriptError(Throwable e) {
+        Throwable cause = e;
+        while (Objects.nonNull(cause)) {
+            if (StrUtil.startWith(cause.getMessage(), NO_SCRIPT_ERROR)) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
     private Object executeRedisTemplate(List<String> keys, Object... values) {
         RedisTemplate<String, Object> redisTemplate = getRedisTemplate();
         Assert.notNull(redisTemplate, "Bean[redisTemplate] is not exist");
 
-        DefaultRedisScript<Object> redisScript = new DefaultRedisScript<>();
-        redisScript.setScriptText(getScript());
-        redisScript.setResultType(Object.class);
-        return redisTemplate.execute(redisScript, keys, values);
+        return redisTemplate.execute(getRedisScript(), keys, values);
+    }
+
+    private DefaultRedisScript<Object> getRedisScript() {
+        DefaultRedisScript<Object> script = redisScript;
+        if (Objects.isNull(script)) {
+            script = new DefaultRedisScript<>();
+            script.setScriptText(getScript());
+            script.setResultType(Object.class);
+            redisScript = script;
+        }
+        return script;
     }
 
     private boolean getResult(Object result) {
@@ -59,6 +131,15 @@ public abstract class AbstractRedisRateLimiterStrategy {
         return SpringUtil.getBean(RedissonClient.class);
     }
 
+    private RedissonScriptBatcher getScriptBatcher() {
+        RedissonScriptBatcher batcher = scriptBatcher;
+        if (Objects.isNull(batcher)) {
+            batcher = SpringUtil.getBean(RedissonScriptBatcher.class);
+            scriptBatcher = batcher;
+        }
+        return batcher;
+    }
+
     private RedisTemplate<String, Object> getRedisTemplate() {
         return SpringUtil.getBean(new TypeReference<RedisTemplate<String, Object>>() {
         });
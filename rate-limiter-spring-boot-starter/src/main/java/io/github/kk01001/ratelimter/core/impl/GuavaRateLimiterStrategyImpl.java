@@ -1,16 +1,16 @@
 package io.github.kk01001.ratelimter.core.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.util.concurrent.RateLimiter;
+import io.github.kk01001.ratelimter.config.RateLimiterProperties;
 import io.github.kk01001.ratelimter.core.RateLimiterStrategy;
 import io.github.kk01001.ratelimter.enums.RateLimiterType;
 import io.github.kk01001.ratelimter.model.FlowRule;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -21,11 +21,22 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 @SuppressWarnings("all")
 @Service
-@RequiredArgsConstructor
 @ConditionalOnClass(RateLimiter.class)
 public class GuavaRateLimiterStrategyImpl implements RateLimiterStrategy {
 
-    private static final Map<String, RateLimiter> rateLimiterMap = new ConcurrentHashMap<>();
+    /**
+     * 限流器按key缓存, 数量有上限且空闲过期, 避免高基数key导致内存泄漏
+     */
+    private final Cache<String, RateLimiter> rateLimiterCache;
+
+    public GuavaRateLimiterStrategyImpl(RateLimiterProperties properties) {
+        RateLimiterProperties.Local local = properties.getLocal();
+        this.rateLimiterCache = CacheBuilder.newBuilder()
+                .maximumSize(local.getMaxSize())
+                .expireAfterAccess(local.getIdleTime())
+                .recordStats()
+                .build();
+    }
 
     @Override
     public RateLimiterType getType() {
@@ -39,7 +50,11 @@ public class GuavaRateLimiterStrategyImpl implements RateLimiterStrategy {
         return rateLimiter.tryAcquire();
     }
 
+    public Cache<String, RateLimiter> getRateLimiterCache() {
+        return rateLimiterCache;
+    }
+
     private RateLimiter getRateLimiter(String key, double permitsPerSecond, long warmupPeriod, TimeUnit unit) {
-        return rateLimiterMap.computeIfAbsent(key, k -> RateLimiter.create(permitsPerSecond, warmupPeriod, unit));
+        return rateLimiterCache.asMap().computeIfAbsent(key, k -> RateLimiter.create(permitsPerSecond, warmupPeriod, unit));
     }
 }
@@ -0,0 +1,59 @@
+package io.github.kk01001.ratelimter.core.impl;
+
+import io.github.kk01001.ratelimter.config.RateLimiterProperties;
+import io.github.kk01001.ratelimter.enums.RateLimiterType;
+import io.github.kk01001.ratelimter.model.FlowRule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 19:40:00
+ * @description <p>
+ * 算法原理：
+ * <p>
+ * 本地固定窗口算法，状态编码为 高32位窗口序号 + 低32位窗口内请求数，进入新窗口时计数归零。
+ * <p>
+ * 优点：
+ * <p>
+ * 实现简单，单次 CAS 即可完成判断和计数。
+ * <p>
+ * 缺点：
+ * <p>
+ * 存在“临界问题”，且只适用于单机。
+ */
+@Slf4j
+@Service
+public class LocalFixedWindowRateLimiterStrategyImpl extends AbstractLocalRateLimiterStrategy {
+
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    public LocalFixedWindowRateLimiterStrategyImpl(RateLimiterProperties properties) {
+        super(properties, 0L);
+    }
+
+    @Override
+    public RateLimiterType getType() {
+        return RateLimiterType.LOCAL_FIXED_WINDOW;
+    }
+
+    @Override
+    protected boolean tryAccess(AtomicLong state, FlowRule flowRule, int permits) {
+        long windowMillis = Math.max(1, flowRule.getWindowTime()) * 1000L;
+        long maxRequests = flowRule.getMaxRequests();
+        long window = (System.currentTimeMillis() / windowMillis) & COUNT_MASK;
+
+        while (true) {
+            long current = state.get();
+            long count = (current >>> 32) == window ? current & COUNT_MASK : 0;
+            if (count + permits > maxRequests) {
+                return false;
+            }
+            if (state.compareAndSet(current, (window << 32) | (count + permits))) {
+                return true;
+            }
+        }
+    }
+}
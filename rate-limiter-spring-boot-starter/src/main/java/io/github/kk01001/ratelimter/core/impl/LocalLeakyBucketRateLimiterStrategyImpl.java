@@ -0,0 +1,36 @@
+package io.github.kk01001.ratelimter.core.impl;
+
+import io.github.kk01001.ratelimter.config.RateLimiterProperties;
+import io.github.kk01001.ratelimter.enums.RateLimiterType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 20:12:00
+ * @description <p>
+ * 算法原理：
+ * <p>
+ * 本地漏桶算法，桶容量为 bucketCapacity，每秒漏出 tokenRate，每次请求加入 permits 的水量，桶满则拒绝。
+ * <p>
+ * 优点：
+ * <p>
+ * 请求处理平滑，每个key只占用一个 long。
+ * <p>
+ * 缺点：
+ * <p>
+ * 只适用于单机。
+ */
+@Slf4j
+@Service
+public class LocalLeakyBucketRateLimiterStrategyImpl extends AbstractLocalBucketRateLimiterStrategy {
+
+    public LocalLeakyBucketRateLimiterStrategyImpl(RateLimiterProperties properties) {
+        super(properties);
+    }
+
+    @Override
+    public RateLimiterType getType() {
+        return RateLimiterType.LOCAL_LEAKY_BUCKET;
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.kk01001.ratelimter.core.impl;
+
+import io.github.kk01001.ratelimter.config.RateLimiterProperties;
+import io.github.kk01001.ratelimter.enums.RateLimiterType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 19:55:00
+ * @description 本地限流, 默认使用本地滑动窗口算法
+ */
+@Slf4j
+@Service
+public class LocalRateLimiterStrategyImpl extends LocalSlidingWindowRateLimiterStrategyImpl {
+
+    public LocalRateLimiterStrategyImpl(RateLimiterProperties properties) {
+        super(properties);
+    }
+
+    @Override
+    public RateLimiterType getType() {
+        return RateLimiterType.LOCAL;
+    }
+}
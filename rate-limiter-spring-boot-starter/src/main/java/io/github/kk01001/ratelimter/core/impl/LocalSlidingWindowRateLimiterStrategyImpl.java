@@ -0,0 +1,79 @@
+package io.github.kk01001.ratelimter.core.impl;
+
+import io.github.kk01001.ratelimter.config.RateLimiterProperties;
+import io.github.kk01001.ratelimter.enums.RateLimiterType;
+import io.github.kk01001.ratelimter.model.FlowRule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 19:50:00
+ * @description <p>
+ * 算法原理：
+ * <p>
+ * 本地滑动窗口算法，按上一窗口请求数在当前滑动窗口中的占比估算请求数：
+ * 估算请求数 = 上一窗口请求数 * (1 - 当前窗口已过时间 / 窗口大小) + 当前窗口请求数。
+ * 状态编码为 高22位窗口序号 + 中21位上一窗口请求数 + 低21位当前窗口请求数。
+ * <p>
+ * 优点：
+ * <p>
+ * 避免固定窗口的“临界问题”，每个key只占用一个 long，单次 CAS 完成判断和计数。
+ * <p>
+ * 缺点：
+ * <p>
+ * 假设上一窗口内请求均匀分布，是近似算法；单个窗口最大请求数为 2097151。
+ */
+@Slf4j
+@Service
+public class LocalSlidingWindowRateLimiterStrategyImpl extends AbstractLocalRateLimiterStrategy {
+
+    private static final int COUNT_BITS = 21;
+
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private static final long WINDOW_MASK = (1L << (64 - 2 * COUNT_BITS)) - 1;
+
+    public LocalSlidingWindowRateLimiterStrategyImpl(RateLimiterProperties properties) {
+        super(properties, 0L);
+    }
+
+    @Override
+    public RateLimiterType getType() {
+        return RateLimiterType.LOCAL_SLIDING_WINDOW;
+    }
+
+    @Override
+    protected boolean tryAccess(AtomicLong state, FlowRule flowRule, int permits) {
+        long windowMillis = Math.max(1, flowRule.getWindowTime()) * 1000L;
+        long maxRequests = Math.min(flowRule.getMaxRequests(), COUNT_MASK);
+        long now = System.currentTimeMillis();
+        long window = (now / windowMillis) & WINDOW_MASK;
+        // 上一窗口在当前滑动窗口中的占比
+        double previousWeight = 1 - (double) (now % windowMillis) / windowMillis;
+
+        while (true) {
+            long current = state.get();
+            long previousCount = (current >>> COUNT_BITS) & COUNT_MASK;
+            long currentCount = current & COUNT_MASK;
+            long elapsedWindows = (window - (current >>> (2 * COUNT_BITS))) & WINDOW_MASK;
+            if (elapsedWindows == 1) {
+                previousCount = currentCount;
+                currentCount = 0;
+            } else if (elapsedWindows != 0) {
+                previousCount = 0;
+                currentCount = 0;
+            }
+
+            if (previousCount * previousWeight + currentCount + permits > maxRequests) {
+                return false;
+            }
+            long next = (window << (2 * COUNT_BITS)) | (previousCount << COUNT_BITS) | (currentCount + permits);
+            if (state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.kk01001.ratelimter.core.impl;
+
+import io.github.kk01001.ratelimter.config.RateLimiterProperties;
+import io.github.kk01001.ratelimter.enums.RateLimiterType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 20:10:00
+ * @description <p>
+ * 算法原理：
+ * <p>
+ * 本地令牌桶算法，桶容量为 bucketCapacity，每秒生成 tokenRate 个令牌，每次请求消耗 permits 个令牌。
+ * <p>
+ * 优点：
+ * <p>
+ * 允许不超过桶容量的突发请求，每个key只占用一个 long。
+ * <p>
+ * 缺点：
+ * <p>
+ * 只适用于单机。
+ */
+@Slf4j
+@Service
+public class LocalTokenBucketRateLimiterStrategyImpl extends AbstractLocalBucketRateLimiterStrategy {
+
+    public LocalTokenBucketRateLimiterStrategyImpl(RateLimiterProperties properties) {
+        super(properties);
+    }
+
+    @Override
+    public RateLimiterType getType() {
+        return RateLimiterType.LOCAL_TOKEN_BUCKET;
+    }
+}
@@ -0,0 +1,173 @@
+package io.github.kk01001.ratelimter.core.impl;
+
+import io.github.kk01001.ratelimter.config.RateLimiterProperties;
+import io.github.kk01001.ratelimter.core.RateLimiterStrategy;
+import io.github.kk01001.ratelimter.enums.RateLimiterType;
+import io.github.kk01001.ratelimter.manager.LocalRateLimiterRegistry;
+import io.github.kk01001.ratelimter.manager.LuaScriptManager;
+import io.github.kk01001.ratelimter.model.FlowRule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 15:20:00
+ * @description <p>
+ * 算法原理：
+ * <p>
+ * 在 redis 令牌桶的基础上增加本地令牌租约。每个节点一次从 redis 令牌桶预取 leaseSize 个令牌，
+ * 本地通过 CAS 消费，租约耗尽或超过 leaseTime 后再向 redis 预取，大部分请求无需访问 redis。
+ * <p>
+ * 优点：
+ * <p>
+ * redis 访问次数约降低为原来的 1/leaseSize，适合高吞吐的网关场景。
+ * <p>
+ * 缺点：
+ * <p>
+ * 令牌在 redis 中预先扣减，集群总放行数不会超过令牌桶发放的令牌数，
+ * 但令牌可能在发放后 leaseTime 内才被使用，任意时间段内的超额放行不超过 节点数 * leaseSize；
+ * 过期未用完的令牌直接作废，低流量时会少放行。
+ * <p>
+ * 预取不到足够令牌时，租约标记为耗尽，在 redis 令牌桶补足所需时间（不超过 leaseTime）内直接拒绝，
+ * 不再加锁访问 redis，之后提前重新预取。
+ */
+@Slf4j
+@Service
+public class RedisLeaseTokenBucketRateLimiterStrategyImpl extends AbstractRedisRateLimiterStrategy implements RateLimiterStrategy {
+
+    private static final int DEFAULT_LEASE_SIZE = 10;
+
+    private static final int DEFAULT_LEASE_TIME = 1000;
+
+    private final LocalRateLimiterRegistry<TokenLease> leaseRegistry;
+
+    public RedisLeaseTokenBucketRateLimiterStrategyImpl(RateLimiterProperties properties) {
+        this.leaseRegistry = new LocalRateLimiterRegistry<>(properties.getLocal(), TokenLease::new);
+    }
+
+    @Override
+    public RateLimiterType getType() {
+        return RateLimiterType.REDIS_LUA_LEASE_TOKEN_BUCKET;
+    }
+
+    @Override
+    public boolean tryAccess(FlowRule flowRule) {
+        int permits = Objects.requireNonNullElse(flowRule.getPermits(), 1);
+        return leaseRegistry.tryAccess(flowRule.getKey(), lease -> tryAccess(flowRule, lease, permits));
+    }
+
+    private boolean tryAccess(FlowRule flowRule, TokenLease lease, int permits) {
+        // 本地租约内直接消费
+        long now = System.currentTimeMillis();
+        if (lease.tryAcquire(permits, now)) {
+            return true;
+        }
+        // 租约已耗尽, 退避期内直接拒绝
+        if (lease.isExhausted(now)) {
+            return false;
+        }
+
+        // 同一个key只有一个线程向 redis 预取, 其他线程等待后复用新租约
+        lease.lock.lock();
+        try {
+            now = System.currentTimeMillis();
+            if (lease.tryAcquire(permits, now)) {
+                return true;
+            }
+            if (lease.isExhausted(now)) {
+                return false;
+            }
+            return renew(flowRule, lease, permits, now);
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    private boolean renew(FlowRule flowRule, TokenLease lease, int permits, long now) {
+        int leaseSize = Math.max(permits, Objects.requireNonNullElse(flowRule.getLeaseSize(), DEFAULT_LEASE_SIZE));
+        int leaseTime = Objects.requireNonNullElse(flowRule.getLeaseTime(), DEFAULT_LEASE_TIME);
+
+        // 未过期的剩余令牌保留到新租约中
+        long remaining = lease.remaining.getAndSet(0);
+        if (now >= lease.expireAt) {
+            remaining = 0;
+        }
+
+        Object result = execute(flowRule,
+                flowRule.getBucketCapacity(),
+                flowRule.getTokenRate(),
+                now,
+                leaseSize - remaining);
+        long granted = Objects.isNull(result) ? 0 : (long) result;
+
+        long available = remaining + granted;
+        boolean access = available >= permits;
+        if (access) {
+            available -= permits;
+        }
+        lease.expireAt = now + leaseTime;
+        lease.exhaustedUntil = access ? 0 : now + getRetryDelay(flowRule, permits - available, leaseTime);
+        lease.remaining.set(available);
+        return access;
+    }
+
+    /**
+     * 预取失败后的退避时间: redis 令牌桶补足缺少令牌所需的时间, 不超过租约有效期
+     */
+    private long getRetryDelay(FlowRule flowRule, long missing, int leaseTime) {
+        Integer tokenRate = flowRule.getTokenRate();
+        if (Objects.isNull(tokenRate) || tokenRate <= 0) {
+            return leaseTime;
+        }
+        long refillMillis = (missing * 1000 + tokenRate - 1) / tokenRate;
+        return Math.max(1, Math.min(leaseTime, refillMillis));
+    }
+
+    public LocalRateLimiterRegistry<TokenLease> getLeaseRegistry() {
+        return leaseRegistry;
+    }
+
+    @Override
+    public String getScript() {
+        return LuaScriptManager.getLeaseTokenBucketScript();
+    }
+
+    /**
+     * 本地令牌租约
+     */
+    public static final class TokenLease {
+
+        private final AtomicLong remaining = new AtomicLong();
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private volatile long expireAt;
+
+        /**
+         * 预取不到足够令牌时, 在该时间之前直接拒绝, 之后重新预取
+         */
+        private volatile long exhaustedUntil;
+
+        private boolean isExhausted(long now) {
+            return now < exhaustedUntil;
+        }
+
+        private boolean tryAcquire(int permits, long now) {
+            if (now >= expireAt) {
+                return false;
+            }
+            long current;
+            do {
+                current = remaining.get();
+                if (current < permits) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - permits));
+            return true;
+        }
+    }
+}
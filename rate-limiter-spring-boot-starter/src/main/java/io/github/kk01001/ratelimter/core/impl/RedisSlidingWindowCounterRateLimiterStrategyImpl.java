@@ -0,0 +1,55 @@
+package io.github.kk01001.ratelimter.core.impl;
+
+import io.github.kk01001.ratelimter.core.RateLimiterStrategy;
+import io.github.kk01001.ratelimter.enums.RateLimiterType;
+import io.github.kk01001.ratelimter.manager.LuaScriptManager;
+import io.github.kk01001.ratelimter.model.FlowRule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 16:05:00
+ * @description <p>
+ * 算法原理：
+ * <p>
+ * 将时间窗口拆分为 windowBuckets 个子窗口，使用 redis hash 记录每个子窗口的请求数，
+ * 每次请求统计最近 windowBuckets 个子窗口的请求数之和，并删除过期的子窗口。
+ * <p>
+ * 优点：
+ * <p>
+ * 每个key的内存占用只与子窗口数量有关，与请求量无关；无需为每个请求生成唯一标识。
+ * <p>
+ * 缺点：
+ * <p>
+ * 精度为 windowTime / windowBuckets，子窗口边界处最多多放行一个子窗口的请求数；
+ * 窗口不能被子窗口数整除时子窗口大小向上取整，实际统计的窗口略大于 windowTime。
+ */
+@Service
+@RequiredArgsConstructor
+public class RedisSlidingWindowCounterRateLimiterStrategyImpl extends AbstractRedisRateLimiterStrategy implements RateLimiterStrategy {
+
+    private static final int DEFAULT_WINDOW_BUCKETS = 10;
+
+    @Override
+    public RateLimiterType getType() {
+        return RateLimiterType.REDIS_LUA_SLIDING_WINDOW_COUNTER;
+    }
+
+    @Override
+    public boolean tryAccess(FlowRule flowRule) {
+        return tryAccess(flowRule,
+                flowRule.getWindowTime(),
+                flowRule.getMaxRequests(),
+                System.currentTimeMillis(),
+                Objects.requireNonNullElse(flowRule.getWindowBuckets(), DEFAULT_WINDOW_BUCKETS),
+                Math.max(1, Objects.requireNonNullElse(flowRule.getPermits(), 1)));
+    }
+
+    @Override
+    public String getScript() {
+        return LuaScriptManager.getSlidingWindowCounterScript();
+    }
+}
@@ -9,8 +9,31 @@ import org.redisson.api.RRateLimiter;
  */
 public enum RateLimiterType {
 
+    /**
+     * 本地限流, 同 LOCAL_SLIDING_WINDOW
+     */
     LOCAL,
 
+    /**
+     * 本地固定窗口算法
+     */
+    LOCAL_FIXED_WINDOW,
+
+    /**
+     * 本地滑动窗口算法
+     */
+    LOCAL_SLIDING_WINDOW,
+
+    /**
+     * 本地令牌桶算法
+     */
+    LOCAL_TOKEN_BUCKET,
+
+    /**
+     * 本地漏桶算法
+     */
+    LOCAL_LEAKY_BUCKET,
+
     GUAVA,
 
     /**
@@ -29,6 +52,12 @@ public enum RateLimiterType {
      */
     REDIS_LUA_SLIDING_WINDOW,
 
+    /**
+     * redis lua 滑动窗口计数算法
+     * 窗口拆分为多个子窗口计数, 内存占用与请求量无关
+     */
+    REDIS_LUA_SLIDING_WINDOW_COUNTER,
+
     /**
      * redis lua 令牌桶算法
      */
@@ -39,4 +68,10 @@ public enum RateLimiterType {
      */
     REDIS_LUA_LEAKY_BUCKET,
 
+    /**
+     * redis lua 令牌桶 + 本地令牌租约
+     * 每次从 redis 令牌桶预取一批令牌, 本地消费完或租约过期后再次预取
+     */
+    REDIS_LUA_LEASE_TOKEN_BUCKET,
+
 }
@@ -0,0 +1,186 @@
+package io.github.kk01001.ratelimter.manager;
+
+import io.github.kk01001.ratelimter.config.RateLimiterProperties;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 19:10:00
+ * @description 本地限流状态注册表
+ * <p>
+ * 每个key的限流状态由各算法自行定义(如编码在 long 中通过 CAS 更新的 AtomicLong, 或本地令牌租约);
+ * 数量有上限且空闲过期, 避免高基数key导致内存泄漏;
+ * 通过 {@link #tryAccess} 使用状态期间计入引用, 只淘汰未被使用的状态, 避免淘汰后新状态多放行
+ *
+ * @param <S> 限流状态类型
+ */
+public class LocalRateLimiterRegistry<S> {
+
+    /**
+     * 最后访问时间的更新精度(毫秒), 减少热点key的写竞争
+     */
+    private static final long ACCESS_TIME_PRECISION = 1000;
+
+    /**
+     * 数量超过上限时, 两次清理的最小间隔(毫秒)
+     */
+    private static final long OVERFLOW_CLEANUP_INTERVAL = 100;
+
+    /**
+     * 已淘汰状态的引用计数
+     */
+    private static final int EVICTED = -1;
+
+    private final Map<String, LimiterState<S>> states = new ConcurrentHashMap<>();
+
+    private final Supplier<S> stateFactory;
+
+    private final int maxSize;
+
+    private final long idleTimeMillis;
+
+    private final long cleanupIntervalMillis;
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    private final AtomicBoolean cleaning = new AtomicBoolean();
+
+    private volatile long lastCleanupTime = System.currentTimeMillis();
+
+    public LocalRateLimiterRegistry(RateLimiterProperties.Local properties, Supplier<S> stateFactory) {
+        this.stateFactory = stateFactory;
+        this.maxSize = properties.getMaxSize();
+        this.idleTimeMillis = properties.getIdleTime().toMillis();
+        this.cleanupIntervalMillis = Math.max(OVERFLOW_CLEANUP_INTERVAL, idleTimeMillis / 2);
+    }
+
+    /**
+     * 使用key对应的限流状态执行限流判断, 执行期间该状态不会被淘汰
+     *
+     * @param access 限流判断, 返回是否放行
+     */
+    public boolean tryAccess(String key, Predicate<S> access) {
+        LimiterState<S> state = retain(key);
+        try {
+            return access.test(state.value);
+        } finally {
+            state.references.decrementAndGet();
+        }
+    }
+
+    private LimiterState<S> retain(String key) {
+        while (true) {
+            long now = System.currentTimeMillis();
+            LimiterState<S> state = states.get(key);
+            if (state == null) {
+                state = states.computeIfAbsent(key, k -> new LimiterState<>(stateFactory.get(), now));
+                cleanUpIfNecessary(now);
+            } else if (now - state.lastAccessTime >= ACCESS_TIME_PRECISION) {
+                state.lastAccessTime = now;
+                cleanUpIfNecessary(now);
+            }
+            if (state.retain()) {
+                return state;
+            }
+            // 状态刚被淘汰, 重新获取
+        }
+    }
+
+    /**
+     * 当前限流状态数量
+     */
+    public int size() {
+        return states.size();
+    }
+
+    /**
+     * 累计淘汰数量
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private void cleanUpIfNecessary(long now) {
+        long elapsed = now - lastCleanupTime;
+        boolean overflow = states.size() > maxSize && elapsed >= OVERFLOW_CLEANUP_INTERVAL;
+        if (!overflow && elapsed < cleanupIntervalMillis) {
+            return;
+        }
+        if (!cleaning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            cleanUp(now);
+        } finally {
+            lastCleanupTime = now;
+            cleaning.set(false);
+        }
+    }
+
+    private void cleanUp(long now) {
+        // 淘汰空闲超时的状态
+        for (String key : states.keySet()) {
+            evict(key, state -> now - state.lastAccessTime >= idleTimeMillis);
+        }
+
+        int overflow = states.size() - maxSize;
+        if (overflow <= 0) {
+            return;
+        }
+        // 数量超过上限, 淘汰最久未使用且未在使用中的状态
+        List<String> keys = states.entrySet().stream()
+                .filter(entry -> entry.getValue().references.get() == 0)
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessTime))
+                .limit(overflow)
+                .map(Map.Entry::getKey)
+                .toList();
+        keys.forEach(key -> evict(key, state -> true));
+    }
+
+    private void evict(String key, Predicate<LimiterState<S>> predicate) {
+        states.computeIfPresent(key, (k, v) -> {
+            if (!predicate.test(v) || !v.references.compareAndSet(0, EVICTED)) {
+                return v;
+            }
+            evictionCount.increment();
+            return null;
+        });
+    }
+
+    private static final class LimiterState<S> {
+
+        private final S value;
+
+        /**
+         * 正在使用的次数, 淘汰后为 EVICTED, 不能再被使用
+         */
+        private final AtomicInteger references = new AtomicInteger();
+
+        private volatile long lastAccessTime;
+
+        private LimiterState(S value, long lastAccessTime) {
+            this.value = value;
+            this.lastAccessTime = lastAccessTime;
+        }
+
+        private boolean retain() {
+            int current;
+            do {
+                current = references.get();
+                if (current == EVICTED) {
+                    return false;
+                }
+            } while (!references.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+}
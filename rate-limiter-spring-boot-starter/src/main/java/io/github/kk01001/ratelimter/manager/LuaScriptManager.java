@@ -18,8 +18,10 @@ public class LuaScriptManager {
     static {
         CONFIG_MAP.put(RateLimiterType.REDIS_LUA_FIXED_WINDOW, ResourceUtil.readUtf8Str("lua/fixed_window.lua"));
         CONFIG_MAP.put(RateLimiterType.REDIS_LUA_SLIDING_WINDOW, ResourceUtil.readUtf8Str("lua/sliding_window.lua"));
+        CONFIG_MAP.put(RateLimiterType.REDIS_LUA_SLIDING_WINDOW_COUNTER, ResourceUtil.readUtf8Str("lua/sliding_window_counter.lua"));
         CONFIG_MAP.put(RateLimiterType.REDIS_LUA_TOKEN_BUCKET, ResourceUtil.readUtf8Str("lua/token_bucket.lua"));
         CONFIG_MAP.put(RateLimiterType.REDIS_LUA_LEAKY_BUCKET, ResourceUtil.readUtf8Str("lua/leaky_bucket.lua"));
+        CONFIG_MAP.put(RateLimiterType.REDIS_LUA_LEASE_TOKEN_BUCKET, ResourceUtil.readUtf8Str("lua/lease_token_bucket.lua"));
     }
 
     public static String getFixedWindowScript() {
@@ -32,6 +34,11 @@ public class LuaScriptManager {
         return CONFIG_MAP.get(RateLimiterType.REDIS_LUA_SLIDING_WINDOW);
     }
 
+    public static String getSlidingWindowCounterScript() {
+
+        return CONFIG_MAP.get(RateLimiterType.REDIS_LUA_SLIDING_WINDOW_COUNTER);
+    }
+
     public static String getTokenBucketScript() {
 
         return CONFIG_MAP.get(RateLimiterType.REDIS_LUA_TOKEN_BUCKET);
@@ -41,4 +48,9 @@ public class LuaScriptManager {
 
         return CONFIG_MAP.get(RateLimiterType.REDIS_LUA_LEAKY_BUCKET);
     }
+
+    public static String getLeaseTokenBucketScript() {
+
+        return CONFIG_MAP.get(RateLimiterType.REDIS_LUA_LEASE_TOKEN_BUCKET);
+    }
 }
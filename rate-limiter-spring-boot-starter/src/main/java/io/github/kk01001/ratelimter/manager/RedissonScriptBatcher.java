@@ -0,0 +1,212 @@
+package io.github.kk01001.ratelimter.manager;
+
+import io.github.kk01001.ratelimter.config.RateLimiterProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.Redisson;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript;
+import org.redisson.api.RScriptAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.RedisTimeoutException;
+import org.redisson.config.MasterSlaveServersConfig;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 14:10:00
+ * @description redisson lua 脚本批量执行
+ * <p>
+ * 并发的 EVALSHA 请求先进入队列, 由单个线程在 {@link RateLimiterProperties.Batch#getWindow()} 窗口内收集,
+ * 通过 {@link RBatch} 合并为一次 pipeline 发送, 调用线程等待各自的结果
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnClass(RedissonClient.class)
+public class RedissonScriptBatcher implements InitializingBean, DisposableBean {
+
+    /**
+     * 无法读取 redisson 配置时的默认等待超时, 与 redisson 默认 timeout 3000ms 一致
+     */
+    private static final Duration DEFAULT_RESPONSE_TIMEOUT = Duration.ofMillis(3000);
+
+    private final RedissonClient redissonClient;
+
+    private final RateLimiterProperties properties;
+
+    private BlockingQueue<ScriptCommand> queue;
+
+    private Thread flushThread;
+
+    private volatile boolean running;
+
+    /**
+     * 调用线程等待结果的超时时间(纳秒)
+     */
+    private long responseTimeoutNanos;
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        RateLimiterProperties.Batch batch = properties.getBatch();
+        if (!Boolean.TRUE.equals(batch.getEnabled())) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(batch.getQueueCapacity());
+        responseTimeoutNanos = resolveResponseTimeout(batch).toNanos();
+        running = true;
+        flushThread = Thread.ofPlatform()
+                .name("rate-limiter-batch")
+                .daemon()
+                .start(this::flushLoop);
+        log.info("rate limiter script batch enabled, window: {}, maxBatchSize: {}", batch.getWindow(), batch.getMaxBatchSize());
+    }
+
+    @Override
+    public void destroy() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        flushThread.interrupt();
+    }
+
+    /**
+     * 合并执行 EVALSHA, 阻塞等待结果
+     */
+    public Object evalSha(String sha, List<Object> keys, Object... values) {
+        ScriptCommand command = new ScriptCommand(sha, keys, values, new CompletableFuture<>());
+        if (!running || !queue.offer(command)) {
+            // 未开启或队列已满, 直接执行
+            return redissonClient.getScript().evalSha(RScript.Mode.READ_WRITE, sha, RScript.ReturnType.VALUE, keys, values);
+        }
+        try {
+            return command.future().get(responseTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            command.future().cancel(false);
+            throw new RedisTimeoutException("rate limiter script batch response timeout after "
+                    + TimeUnit.NANOSECONDS.toMillis(responseTimeoutNanos) + "ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            command.future().cancel(false);
+            throw new RedisException("rate limiter script batch interrupted", e);
+        }
+    }
+
+    /**
+     * 等待超时: 未配置时使用 redisson 的 timeout * (retryAttempts + 1), 再加上合并窗口
+     */
+    private Duration resolveResponseTimeout(RateLimiterProperties.Batch batch) {
+        if (batch.getResponseTimeout() != null) {
+            return batch.getResponseTimeout();
+        }
+        Duration timeout = DEFAULT_RESPONSE_TIMEOUT;
+        try {
+            if (redissonClient instanceof Redisson redisson) {
+                MasterSlaveServersConfig config = redisson.getCommandExecutor().getServiceManager().getConfig();
+                timeout = Duration.ofMillis((long) config.getTimeout() * (config.getRetryAttempts() + 1));
+            }
+        } catch (RuntimeException e) {
+            log.warn("resolve redisson response timeout failed, use default: {}", DEFAULT_RESPONSE_TIMEOUT, e);
+        }
+        return timeout.plus(batch.getWindow());
+    }
+
+    private void flushLoop() {
+        RateLimiterProperties.Batch batch = properties.getBatch();
+        long windowNanos = batch.getWindow().toNanos();
+        int maxBatchSize = batch.getMaxBatchSize();
+        List<ScriptCommand> commands = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                ScriptCommand first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                commands.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (commands.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    ScriptCommand next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    commands.add(next);
+                }
+                flush(List.copyOf(commands));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("rate limiter script batch flush error", e);
+                commands.forEach(command -> command.future().completeExceptionally(e));
+            } finally {
+                commands.clear();
+            }
+        }
+
+        // 关闭前发送剩余请求
+        queue.drainTo(commands);
+        if (!commands.isEmpty()) {
+            flush(List.copyOf(commands));
+        }
+    }
+
+    private void flush(List<ScriptCommand> commands) {
+        if (commands.size() == 1) {
+            ScriptCommand command = commands.getFirst();
+            redissonClient.getScript()
+                    .evalShaAsync(RScript.Mode.READ_WRITE, command.sha(), RScript.ReturnType.VALUE, command.keys(), command.values())
+                    .whenComplete((result, e) -> complete(command, result, e));
+            return;
+        }
+
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+        RScriptAsync script = batch.getScript();
+        for (ScriptCommand command : commands) {
+            script.evalShaAsync(RScript.Mode.READ_WRITE, command.sha(), RScript.ReturnType.VALUE, command.keys(), command.values())
+                    .whenComplete((result, e) -> complete(command, result, e));
+        }
+        batch.executeAsync().whenComplete((result, e) -> {
+            if (e != null) {
+                commands.forEach(command -> command.future().completeExceptionally(e));
+            }
+        });
+    }
+
+    private void complete(ScriptCommand command, Object result, Throwable e) {
+        if (e != null) {
+            command.future().completeExceptionally(e);
+            return;
+        }
+        command.future().complete(result);
+    }
+
+    private record ScriptCommand(String sha, List<Object> keys, Object[] values, CompletableFuture<Object> future) {
+    }
+}
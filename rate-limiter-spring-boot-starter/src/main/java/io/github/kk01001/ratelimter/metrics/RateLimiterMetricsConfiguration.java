@@ -0,0 +1,69 @@
+package io.github.kk01001.ratelimter.metrics;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.github.kk01001.ratelimter.core.impl.AbstractLocalRateLimiterStrategy;
+import io.github.kk01001.ratelimter.core.impl.GuavaRateLimiterStrategyImpl;
+import io.github.kk01001.ratelimter.core.impl.RedisLeaseTokenBucketRateLimiterStrategyImpl;
+import io.github.kk01001.ratelimter.manager.LocalRateLimiterRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-18 18:05:00
+ * @description 限流指标自动配置
+ */
+@Configuration
+@ConditionalOnClass(MeterBinder.class)
+public class RateLimiterMetricsConfiguration {
+
+    /**
+     * 本地限流状态注册表指标: 数量, 淘汰数量
+     */
+    @Bean
+    public MeterBinder localRateLimiterMeterBinder(List<AbstractLocalRateLimiterStrategy> strategyList,
+                                                   ObjectProvider<RedisLeaseTokenBucketRateLimiterStrategyImpl> leaseStrategyProvider) {
+        return meterRegistry -> {
+            for (AbstractLocalRateLimiterStrategy strategy : strategyList) {
+                bindRegistry(meterRegistry, strategy.getRegistry(), Tags.of("type", strategy.getType().name()));
+            }
+            leaseStrategyProvider.ifAvailable(strategy ->
+                    bindRegistry(meterRegistry, strategy.getLeaseRegistry(), Tags.of("type", strategy.getType().name())));
+        };
+    }
+
+    private static void bindRegistry(MeterRegistry meterRegistry, LocalRateLimiterRegistry<?> registry, Tags tags) {
+        Gauge.builder("rate-limiter.local.size", registry, LocalRateLimiterRegistry::size)
+                .tags(tags)
+                .description("本地限流key数量")
+                .register(meterRegistry);
+        FunctionCounter.builder("rate-limiter.local.evictions", registry, LocalRateLimiterRegistry::getEvictionCount)
+                .tags(tags)
+                .description("本地限流key淘汰数量")
+                .register(meterRegistry);
+    }
+
+    @Configuration
+    @ConditionalOnClass(RateLimiter.class)
+    static class GuavaRateLimiterMetricsConfiguration {
+
+        /**
+         * guava 限流器注册表指标: 数量, 淘汰数量, 命中率
+         */
+        @Bean
+        public MeterBinder guavaRateLimiterMeterBinder(ObjectProvider<GuavaRateLimiterStrategyImpl> strategyProvider) {
+            return meterRegistry -> strategyProvider.ifAvailable(strategy ->
+                    GuavaCacheMetrics.monitor(meterRegistry, strategy.getRateLimiterCache(), "rate-limiter.guava", Tags.empty()));
+        }
+    }
+}
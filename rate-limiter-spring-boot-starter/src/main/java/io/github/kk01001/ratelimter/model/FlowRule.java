@@ -30,6 +30,11 @@ public class FlowRule {
 
     private Integer windowTime = 1;
 
+    /**
+     * 滑动窗口计数: 子窗口数量
+     */
+    private Integer windowBuckets = 10;
+
     /**
      * 是桶的容量（最大令牌数）
      */
@@ -44,4 +49,14 @@ public class FlowRule {
      * 本次申请请求的凭证数
      */
     private Integer permits = 1;
+
+    /**
+     * 令牌租约: 每次从 redis 预取的令牌数
+     */
+    private Integer leaseSize = 10;
+
+    /**
+     * 令牌租约: 租约有效期(毫秒), 过期后未用完的令牌作废
+     */
+    private Integer leaseTime = 1000;
 }
@@ -0,0 +1,41 @@
+-- KEYS[1] 是令牌桶的标识符
+-- ARGV[1] 是桶的容量（最大令牌数）
+-- ARGV[2] 是令牌生成速率（每秒生成的令牌数）
+-- ARGV[3] 是当前时间戳（毫秒级）
+-- ARGV[4] 是本次预取的令牌数
+-- 返回实际预取到的令牌数
+
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+local now = tonumber(ARGV[3])
+local requested = tonumber(ARGV[4])
+
+-- 获取当前令牌数及上次更新时间
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'lastTime')
+local tokens = tonumber(bucket[1])
+local lastTime = tonumber(bucket[2])
+
+if tokens == nil then
+    tokens = capacity
+    lastTime = now
+end
+
+-- 计算自上次请求以来产生的令牌数, 速率不大于0时不生成令牌
+local delta = 0
+if rate > 0 then
+    delta = math.max(0, now - lastTime) / 1000 * rate
+end
+tokens = math.min(capacity, tokens + delta)
+
+-- 最多预取桶内现有的整数令牌
+local granted = math.min(math.floor(tokens), requested)
+
+redis.call('HSET', KEYS[1], 'tokens', tokens - granted, 'lastTime', now)
+-- 桶从空到满所需时间后自动过期, 速率不大于0时使用固定过期时间(1小时)
+local ttl = 3600000
+if rate > 0 then
+    ttl = math.ceil(capacity / rate * 1000) + 1000
+end
+redis.call('PEXPIRE', KEYS[1], ttl)
+
+return granted
@@ -0,0 +1,42 @@
+-- KEYS[1] 是服务的唯一标识符
+-- ARGV[1] 是窗口大小（秒）
+-- ARGV[2] 是限流阈值（请求次数）
+-- ARGV[3] 是当前请求的时间戳（毫秒级）
+-- ARGV[4] 是子窗口数量
+-- ARGV[5] 是本次请求的许可数
+-- 使用 hash 保存每个子窗口的计数, field 为子窗口序号, 内存占用只与子窗口数量有关
+
+local windowMillis = tonumber(ARGV[1]) * 1000
+local limit = tonumber(ARGV[2])
+local now = tonumber(ARGV[3])
+local buckets = math.max(1, tonumber(ARGV[4]))
+local permits = tonumber(ARGV[5])
+
+-- 向上取整, 窗口不能整除时 buckets 个子窗口覆盖的时间不小于窗口大小, 只会更严格而不会放宽限流
+local bucketMillis = math.max(1, math.ceil(windowMillis / buckets))
+local currentBucket = math.floor(now / bucketMillis)
+local oldestBucket = currentBucket - buckets + 1
+
+-- 统计窗口内的请求数, 同时删除过期的子窗口
+local values = redis.call('HGETALL', KEYS[1])
+local requestCount = 0
+for i = 1, #values, 2 do
+    if tonumber(values[i]) < oldestBucket then
+        redis.call('HDEL', KEYS[1], values[i])
+    else
+        requestCount = requestCount + tonumber(values[i + 1])
+    end
+end
+
+-- 判断是否超过限流阈值
+if requestCount + permits > limit then
+    -- 返回0表示请求被限流
+    return 0
+end
+
+-- 当前子窗口计数加上许可数
+redis.call('HINCRBY', KEYS[1], currentBucket, permits)
+redis.call('PEXPIRE', KEYS[1], buckets * bucketMillis + bucketMillis)
+
+-- 返回1表示请求被允许
+return 1
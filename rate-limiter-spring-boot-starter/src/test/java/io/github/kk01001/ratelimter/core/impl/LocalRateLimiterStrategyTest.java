@@ -0,0 +1,152 @@
+package io.github.kk01001.ratelimter.core.impl;
+
+import io.github.kk01001.ratelimter.config.RateLimiterProperties;
+import io.github.kk01001.ratelimter.model.FlowRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-19 11:40:00
+ * @description 本地固定窗口, 滑动窗口, 令牌桶, 漏桶限流
+ */
+class LocalRateLimiterStrategyTest {
+
+    private final RateLimiterProperties properties = new RateLimiterProperties();
+
+    @Test
+    void fixedWindowAllowsUpToMaxRequests() {
+        LocalFixedWindowRateLimiterStrategyImpl strategy = new LocalFixedWindowRateLimiterStrategyImpl(properties);
+        FlowRule flowRule = windowRule("fixed", 5, 1);
+
+        assertThat(countAllowed(strategy, flowRule, 10)).isEqualTo(5);
+    }
+
+    @Test
+    void fixedWindowCountsPermits() {
+        LocalFixedWindowRateLimiterStrategyImpl strategy = new LocalFixedWindowRateLimiterStrategyImpl(properties);
+
+        assertThat(strategy.tryAccess(windowRule("fixed:permits", 5, 3))).isTrue();
+        assertThat(strategy.tryAccess(windowRule("fixed:permits", 5, 3))).isFalse();
+        assertThat(strategy.tryAccess(windowRule("fixed:permits", 5, 2))).isTrue();
+    }
+
+    @Test
+    void slidingWindowAllowsUpToMaxRequests() {
+        LocalSlidingWindowRateLimiterStrategyImpl strategy = new LocalSlidingWindowRateLimiterStrategyImpl(properties);
+        FlowRule flowRule = windowRule("sliding", 5, 1);
+
+        assertThat(countAllowed(strategy, flowRule, 10)).isEqualTo(5);
+    }
+
+    @Test
+    void slidingWindowKeysAreIndependent() {
+        LocalSlidingWindowRateLimiterStrategyImpl strategy = new LocalSlidingWindowRateLimiterStrategyImpl(properties);
+
+        assertThat(countAllowed(strategy, windowRule("sliding:a", 3, 1), 5)).isEqualTo(3);
+        assertThat(countAllowed(strategy, windowRule("sliding:b", 3, 1), 5)).isEqualTo(3);
+        assertThat(strategy.getRegistry().size()).isEqualTo(2);
+    }
+
+    @Test
+    void slidingWindowIsExactUnderConcurrency() throws Exception {
+        LocalSlidingWindowRateLimiterStrategyImpl strategy = new LocalSlidingWindowRateLimiterStrategyImpl(properties);
+        FlowRule flowRule = windowRule("sliding:concurrent", 100, 1);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            Future<?>[] futures = new Future<?>[8];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 100; j++) {
+                        if (strategy.tryAccess(flowRule)) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+
+    @Test
+    void tokenBucketAllowsBurstUpToCapacity() {
+        LocalTokenBucketRateLimiterStrategyImpl strategy = new LocalTokenBucketRateLimiterStrategyImpl(properties);
+        FlowRule flowRule = bucketRule("token", 5, 1, 1);
+
+        assertThat(countAllowed(strategy, flowRule, 10)).isEqualTo(5);
+    }
+
+    @Test
+    void tokenBucketRefillsAtTokenRate() throws InterruptedException {
+        LocalTokenBucketRateLimiterStrategyImpl strategy = new LocalTokenBucketRateLimiterStrategyImpl(properties);
+        // 每 50ms 生成一个令牌
+        FlowRule flowRule = bucketRule("token:refill", 1, 20, 1);
+
+        assertThat(strategy.tryAccess(flowRule)).isTrue();
+        assertThat(strategy.tryAccess(flowRule)).isFalse();
+        Thread.sleep(60);
+        assertThat(strategy.tryAccess(flowRule)).isTrue();
+    }
+
+    @Test
+    void tokenBucketRejectsPermitsAboveCapacity() {
+        LocalTokenBucketRateLimiterStrategyImpl strategy = new LocalTokenBucketRateLimiterStrategyImpl(properties);
+
+        assertThat(strategy.tryAccess(bucketRule("token:permits", 5, 1, 6))).isFalse();
+        assertThat(strategy.tryAccess(bucketRule("token:permits", 5, 1, 5))).isTrue();
+    }
+
+    @Test
+    void leakyBucketRejectsWhenFull() {
+        LocalLeakyBucketRateLimiterStrategyImpl strategy = new LocalLeakyBucketRateLimiterStrategyImpl(properties);
+        FlowRule flowRule = bucketRule("leaky", 3, 1, 1);
+
+        assertThat(countAllowed(strategy, flowRule, 10)).isEqualTo(3);
+    }
+
+    private static int countAllowed(AbstractLocalRateLimiterStrategy strategy, FlowRule flowRule, int requests) {
+        int allowed = 0;
+        for (int i = 0; i < requests; i++) {
+            if (strategy.tryAccess(flowRule)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * 窗口取1小时, 避免测试跨越窗口边界
+     */
+    private static FlowRule windowRule(String key, int maxRequests, int permits) {
+        FlowRule flowRule = new FlowRule();
+        flowRule.setKey(key);
+        flowRule.setMaxRequests(maxRequests);
+        flowRule.setWindowTime(3600);
+        flowRule.setPermits(permits);
+        return flowRule;
+    }
+
+    private static FlowRule bucketRule(String key, int bucketCapacity, int tokenRate, int permits) {
+        FlowRule flowRule = new FlowRule();
+        flowRule.setKey(key);
+        flowRule.setBucketCapacity(bucketCapacity);
+        flowRule.setTokenRate(tokenRate);
+        flowRule.setPermits(permits);
+        return flowRule;
+    }
+}
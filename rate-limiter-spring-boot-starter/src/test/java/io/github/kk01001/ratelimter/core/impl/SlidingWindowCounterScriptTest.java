@@ -0,0 +1,127 @@
+package io.github.kk01001.ratelimter.core.impl;
+
+import io.github.kk01001.ratelimter.manager.LuaScriptManager;
+import org.junit.jupiter.api.Test;
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaTable;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.Varargs;
+import org.luaj.vm2.lib.VarArgFunction;
+import org.luaj.vm2.lib.jse.JsePlatform;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-19 11:20:00
+ * @description 滑动窗口计数脚本, 使用内存实现的 hash 命令在 luaj 中执行
+ */
+class SlidingWindowCounterScriptTest {
+
+    private static final String KEY = "rate:sliding:counter";
+
+    private final Map<String, Map<String, Long>> hashes = new HashMap<>();
+
+    private final Map<String, Long> expires = new HashMap<>();
+
+    @Test
+    void rejectsWhenLimitReachedInsideWindow() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(tryAccess(1, 5, 1_000 + i * 10L, 10, 1)).isTrue();
+        }
+        assertThat(tryAccess(1, 5, 1_100, 10, 1)).isFalse();
+        // 被拒绝的请求不计数
+        assertThat(hashes.get(KEY).values().stream().mapToLong(Long::longValue).sum()).isEqualTo(5);
+    }
+
+    @Test
+    void oldBucketsExpireAfterWindowSlides() {
+        assertThat(tryAccess(1, 2, 0, 10, 1)).isTrue();
+        assertThat(tryAccess(1, 2, 500, 10, 1)).isTrue();
+        assertThat(tryAccess(1, 2, 999, 10, 1)).isFalse();
+
+        // 第一个子窗口 [0, 100) 滑出窗口
+        assertThat(tryAccess(1, 2, 1_000, 10, 1)).isTrue();
+        assertThat(hashes.get(KEY)).doesNotContainKey("0");
+        assertThat(tryAccess(1, 2, 1_050, 10, 1)).isFalse();
+    }
+
+    @Test
+    void unevenSplitDoesNotShrinkWindow() {
+        // 1000ms 分为3个子窗口, 子窗口大小向上取整为 334ms, 统计范围不小于 1000ms
+        assertThat(tryAccess(1, 1, 0, 3, 1)).isTrue();
+        assertThat(tryAccess(1, 1, 999, 3, 1)).isFalse();
+        assertThat(tryAccess(1, 1, 1_002, 3, 1)).isTrue();
+    }
+
+    @Test
+    void permitsAreCountedAgainstLimit() {
+        assertThat(tryAccess(1, 5, 0, 10, 3)).isTrue();
+        assertThat(tryAccess(1, 5, 10, 10, 3)).isFalse();
+        assertThat(tryAccess(1, 5, 20, 10, 2)).isTrue();
+        assertThat(tryAccess(1, 5, 30, 10, 1)).isFalse();
+    }
+
+    @Test
+    void expireCoversWholeWindow() {
+        tryAccess(1, 5, 0, 3, 1);
+        assertThat(expires.get(KEY)).isGreaterThanOrEqualTo(1_000L + 334L);
+    }
+
+    private boolean tryAccess(int windowSeconds, int limit, long now, int buckets, int permits) {
+        Globals globals = JsePlatform.standardGlobals();
+        LuaTable redis = new LuaTable();
+        redis.set("call", new RedisCall());
+        globals.set("redis", redis);
+        globals.set("KEYS", LuaValue.listOf(new LuaValue[]{LuaValue.valueOf(KEY)}));
+        globals.set("ARGV", LuaValue.listOf(new LuaValue[]{
+                LuaValue.valueOf(String.valueOf(windowSeconds)),
+                LuaValue.valueOf(String.valueOf(limit)),
+                LuaValue.valueOf(String.valueOf(now)),
+                LuaValue.valueOf(String.valueOf(buckets)),
+                LuaValue.valueOf(String.valueOf(permits))
+        }));
+        LuaValue result = globals.load(LuaScriptManager.getSlidingWindowCounterScript()).call();
+        return result.toint() == 1;
+    }
+
+    /**
+     * 脚本用到的 hash 命令
+     */
+    private class RedisCall extends VarArgFunction {
+
+        @Override
+        public Varargs invoke(Varargs args) {
+            String command = args.checkjstring(1);
+            String key = args.checkjstring(2);
+            Map<String, Long> hash = hashes.computeIfAbsent(key, k -> new LinkedHashMap<>());
+            switch (command) {
+                case "HGETALL" -> {
+                    LuaTable values = new LuaTable();
+                    int index = 1;
+                    for (Map.Entry<String, Long> entry : hash.entrySet()) {
+                        values.set(index++, LuaValue.valueOf(entry.getKey()));
+                        values.set(index++, LuaValue.valueOf(String.valueOf(entry.getValue())));
+                    }
+                    return values;
+                }
+                case "HDEL" -> {
+                    return LuaValue.valueOf(hash.remove(args.checkjstring(3)) == null ? 0 : 1);
+                }
+                case "HINCRBY" -> {
+                    long value = hash.merge(args.checkjstring(3), args.checklong(4), Long::sum);
+                    return LuaValue.valueOf(value);
+                }
+                case "PEXPIRE" -> {
+                    expires.put(key, args.checklong(3));
+                    return LuaValue.ONE;
+                }
+                default -> throw new UnsupportedOperationException(command);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.kk01001.ratelimter.manager;
+
+import io.github.kk01001.ratelimter.config.RateLimiterProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author linshiqiang
+ * @date 2026-10-19 11:55:00
+ * @description 本地限流状态注册表的淘汰
+ */
+class LocalRateLimiterRegistryTest {
+
+    @Test
+    void evictsLeastRecentlyUsedWhenOverflow() throws InterruptedException {
+        LocalRateLimiterRegistry<AtomicLong> registry = new LocalRateLimiterRegistry<>(local(2, Duration.ofMinutes(10)), AtomicLong::new);
+        registry.tryAccess("a", state -> true);
+        registry.tryAccess("b", state -> true);
+        // 超过上限后的清理有最小间隔
+        Thread.sleep(110);
+        registry.tryAccess("c", state -> true);
+
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsIdleStates() throws InterruptedException {
+        LocalRateLimiterRegistry<AtomicLong> registry = new LocalRateLimiterRegistry<>(local(100, Duration.ofMillis(50)), AtomicLong::new);
+
+        registry.tryAccess("idle", state -> true);
+        Thread.sleep(150);
+        registry.tryAccess("active", state -> true);
+
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void neverEvictsStateInUse() throws InterruptedException {
+        LocalRateLimiterRegistry<AtomicLong> registry = new LocalRateLimiterRegistry<>(local(1, Duration.ofMinutes(10)), AtomicLong::new);
+        Thread.sleep(110);
+        AtomicReference<AtomicLong> inUse = new AtomicReference<>();
+
+        registry.tryAccess("in-use", state -> {
+            inUse.set(state);
+            // 使用期间其他key触发超过上限的清理
+            registry.tryAccess("other-1", other -> true);
+            registry.tryAccess("other-2", other -> true);
+            return state.incrementAndGet() > 0;
+        });
+
+        assertThat(registry.getEvictionCount()).isPositive();
+        registry.tryAccess("in-use", state -> {
+            assertThat(state).isSameAs(inUse.get());
+            assertThat(state.get()).isEqualTo(1);
+            return true;
+        });
+    }
+
+    private static RateLimiterProperties.Local local(int maxSize, Duration idleTime) {
+        RateLimiterProperties.Local local = new RateLimiterProperties.Local();
+        local.setMaxSize(maxSize);
+        local.setIdleTime(idleTime);
+        return local;
+    }
+}